@@ -24,25 +24,21 @@ const Dashboard = () => {
 
   const fetchData = async () => {
     try {
-      const [resumesRes, interviewsRes] = await Promise.all([
+      // Only the three most recent interviews are shown; totals come with the first page
+      const [resumesRes, historyRes] = await Promise.all([
         resumeService.getUserResumes(user.id),
-        interviewService.getUserInterviews(user.id)
+        interviewService.getInterviewHistory(user.id, null, 3)
       ]);
-      
+      const { interviews: recentInterviews, stats: interviewStats } = historyRes.data;
 
       setResumes(resumesRes.data);
-      setInterviews(interviewsRes.data);
-
-      // Calculate stats
-      const completedInterviews = interviewsRes.data.filter(i => i.status === 'COMPLETED');
-      const totalScore = completedInterviews.reduce((sum, i) => sum + (i.overallScore || 0), 0);
-      const averageScore = completedInterviews.length > 0 ? totalScore / completedInterviews.length : 0;
+      setInterviews(recentInterviews);
 
       setStats({
         totalResumes: resumesRes.data.length,
-        totalInterviews: interviewsRes.data.length,
-        completedInterviews: completedInterviews.length,
-        averageScore: Math.round(averageScore * 10) / 10
+        totalInterviews: interviewStats.totalInterviews,
+        completedInterviews: interviewStats.completedInterviews,
+        averageScore: Math.round((interviewStats.averageScore || 0) * 10) / 10
       });
     } catch (error) {
       console.error('Error fetching data:', error);
@@ -15,7 +15,10 @@ import {
 const History = () => {
   const { user } = useUser();
   const [interviews, setInterviews] = useState([]);
+  const [stats, setStats] = useState(null);
+  const [nextCursor, setNextCursor] = useState(null);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [selectedInterview, setSelectedInterview] = useState(null);
 
   useEffect(() => {
@@ -24,14 +27,39 @@ const History = () => {
     }
   }, [user]);
 
-  const fetchInterviews = async () => {
+  const fetchInterviews = async (cursor = null) => {
     try {
-      const response = await interviewService.getUserInterviews(user.id);
-      setInterviews(response.data);
+      const response = await interviewService.getInterviewHistory(user.id, cursor);
+      const page = response.data;
+      setInterviews(prev => (cursor ? [...prev, ...page.interviews] : page.interviews));
+      setNextCursor(page.nextCursor);
+      if (page.stats) {
+        setStats(page.stats);
+      }
     } catch (error) {
       console.error('Error fetching interviews:', error);
     } finally {
       setLoading(false);
+      setLoadingMore(false);
+    }
+  };
+
+  const loadMore = () => {
+    setLoadingMore(true);
+    fetchInterviews(nextCursor);
+  };
+
+  // History entries are summaries; load questions, answers and feedback on demand
+  const toggleDetails = async (interview) => {
+    if (selectedInterview?.id === interview.id) {
+      setSelectedInterview(null);
+      return;
+    }
+    try {
+      const response = await interviewService.getInterviewById(interview.id);
+      setSelectedInterview(response.data);
+    } catch (error) {
+      console.error('Error fetching interview details:', error);
     }
   };
 
@@ -83,7 +111,7 @@ const History = () => {
           </p>
         </div>
         <div className="text-sm text-gray-500">
-          {interviews.length} interview{interviews.length !== 1 ? 's' : ''} completed
+          {stats?.completedInterviews ?? 0} interview{stats?.completedInterviews !== 1 ? 's' : ''} completed
         </div>
       </div>
 
@@ -97,7 +125,7 @@ const History = () => {
               </div>
               <div className="ml-4">
                 <p className="text-sm font-medium text-gray-600">Total Interviews</p>
-                <p className="text-2xl font-bold text-gray-900">{interviews.length}</p>
+                <p className="text-2xl font-bold text-gray-900">{stats?.totalInterviews ?? 0}</p>
               </div>
             </div>
           </div>
@@ -110,7 +138,7 @@ const History = () => {
               <div className="ml-4">
                 <p className="text-sm font-medium text-gray-600">Completed</p>
                 <p className="text-2xl font-bold text-gray-900">
-                  {interviews.filter(i => i.status === 'COMPLETED').length}
+                  {stats?.completedInterviews ?? 0}
                 </p>
               </div>
             </div>
@@ -124,13 +152,7 @@ const History = () => {
               <div className="ml-4">
                 <p className="text-sm font-medium text-gray-600">Average Score</p>
                 <p className="text-2xl font-bold text-gray-900">
-                  {interviews.filter(i => i.overallScore).length > 0
-                    ? (interviews
-                        .filter(i => i.overallScore)
-                        .reduce((sum, i) => sum + i.overallScore, 0) /
-                      interviews.filter(i => i.overallScore).length
-                      ).toFixed(1)
-                    : 'N/A'}
+                  {stats?.averageScore != null ? stats.averageScore.toFixed(1) : 'N/A'}
                 </p>
               </div>
             </div>
@@ -144,14 +166,7 @@ const History = () => {
               <div className="ml-4">
                 <p className="text-sm font-medium text-gray-600">Avg Duration</p>
                 <p className="text-2xl font-bold text-gray-900">
-                  {interviews.filter(i => i.totalDuration).length > 0
-                    ? Math.round(
-                        interviews
-                          .filter(i => i.totalDuration)
-                          .reduce((sum, i) => sum + i.totalDuration, 0) /
-                        interviews.filter(i => i.totalDuration).length
-                      )
-                    : 'N/A'}{' '}
+                  {stats?.averageDuration != null ? Math.round(stats.averageDuration) : 'N/A'}{' '}
                   min
                 </p>
               </div>
@@ -226,16 +241,14 @@ const History = () => {
                       
                       <div className="flex items-center">
                         <FileText className="w-4 h-4 mr-1" />
-                        {interview.questions?.length || 0} questions
+                        {interview.questionCount || 0} questions
                       </div>
                     </div>
                   </div>
                   
                   <div className="flex items-center space-x-2">
                     <button
-                      onClick={() => setSelectedInterview(
-                        selectedInterview?.id === interview.id ? null : interview
-                      )}
+                      onClick={() => toggleDetails(interview)}
                       className="flex items-center px-3 py-2 text-sm text-gray-600 hover:text-gray-900 hover:bg-gray-100 rounded-md transition-colors"
                     >
                       <MessageSquare className="w-4 h-4 mr-1" />
@@ -247,22 +260,22 @@ const History = () => {
                 {/* Interview Details */}
                 {selectedInterview?.id === interview.id && (
                   <div className="mt-4 pt-4 border-t">
-                    {interview.overallFeedback && (
+                    {selectedInterview.overallFeedback && (
                       <div className="mb-4">
                         <h4 className="font-medium text-gray-900 mb-2">AI Feedback</h4>
                         <div className="bg-gray-50 rounded-lg p-4">
                           <p className="text-sm text-gray-700 whitespace-pre-wrap">
-                            {interview.overallFeedback}
+                            {selectedInterview.overallFeedback}
                           </p>
                         </div>
                       </div>
                     )}
 
-                    {interview.answers && interview.answers.length > 0 && (
+                    {selectedInterview.answers && selectedInterview.answers.length > 0 && (
                       <div>
                         <h4 className="font-medium text-gray-900 mb-3">Q&A Details</h4>
                         <div className="space-y-3">
-                          {interview.answers.map((answer, index) => (
+                          {selectedInterview.answers.map((answer, index) => (
                             <div key={answer.id} className="bg-gray-50 rounded-lg p-4">
                               <div className="flex items-center justify-between mb-2">
                                 <h5 className="font-medium text-gray-900">
@@ -295,6 +308,17 @@ const History = () => {
               </div>
             ))}
           </div>
+          {nextCursor && (
+            <div className="px-6 py-4 border-t text-center">
+              <button
+                onClick={loadMore}
+                disabled={loadingMore}
+                className="px-4 py-2 text-sm text-primary-600 hover:bg-gray-100 rounded-md transition-colors disabled:opacity-50"
+              >
+                {loadingMore ? 'Loading...' : 'Load more'}
+              </button>
+            </div>
+          )}
         </div>
       )}
     </div>
@@ -36,6 +36,27 @@ const Interview = () => {
     fetchInterview();
   }, [id]);
 
+  // Answers are scored and the report is written in the background;
+  // merge feedback as it arrives and reload once the report is done
+  const awaitingReport = interview?.status === 'COMPLETED' && interview?.reportStatus === 'PENDING';
+  useEffect(() => {
+    if (interview?.status !== 'IN_PROGRESS' && !awaitingReport) {
+      return undefined;
+    }
+    const events = interviewService.subscribeToEvents(id);
+    events.addEventListener('answer-scored', (event) => {
+      const scored = JSON.parse(event.data);
+      setInterview(prev => prev && {
+        ...prev,
+        answers: (prev.answers || []).map(answer => (answer.id === scored.id ? scored : answer))
+      });
+    });
+    events.addEventListener('report-status', () => {
+      fetchInterview();
+    });
+    return () => events.close();
+  }, [id, interview?.status, awaitingReport]);
+
   useEffect(() => {
     if (isRecording) {
       timerRef.current = setInterval(() => {
@@ -140,7 +161,9 @@ const Interview = () => {
         recordingTime
       );
 
-      setInterview(response.data);
+      // the response carries only the new answer
+      const { answer } = response.data;
+      setInterview(prev => ({ ...prev, answers: [...(prev.answers || []), answer] }));
       setAnswerText('');
       setRecordingTime(0);
       
@@ -227,6 +250,19 @@ const Interview = () => {
           </div>
         </div>
 
+        {interview.reportStatus === 'PENDING' && (
+          <div className="bg-white rounded-lg shadow-sm border p-6 mb-6 flex items-center">
+            <div className="animate-spin rounded-full h-5 w-5 border-b-2 border-primary-600 mr-3"></div>
+            <p className="text-gray-600">Generating your feedback report...</p>
+          </div>
+        )}
+
+        {interview.reportStatus === 'FAILED' && (
+          <div className="bg-white rounded-lg shadow-sm border p-6 mb-6">
+            <p className="text-gray-600">The feedback report could not be generated.</p>
+          </div>
+        )}
+
         {interview.overallFeedback && (
           <div className="bg-white rounded-lg shadow-sm border p-6 mb-6">
             <h2 className="text-xl font-semibold text-gray-900 mb-4">AI Feedback</h2>
@@ -9,6 +9,22 @@ const ResumeUpload = () => {
   const [uploading, setUploading] = useState(false);
   const [uploadResult, setUploadResult] = useState(null);
   const [error, setError] = useState('');
+  const [processingStatus, setProcessingStatus] = useState(null);
+
+  // Parsing and question generation run in the background after upload
+  const pollStatus = useCallback(async (resumeId) => {
+    try {
+      const { data } = await resumeService.getResumeStatus(resumeId);
+      setProcessingStatus(data);
+      if (data.status === 'FAILED') {
+        setError(data.error || 'Resume analysis failed. Please try again.');
+      } else if (data.status !== 'QUESTIONS_READY') {
+        setTimeout(() => pollStatus(resumeId), 2000);
+      }
+    } catch (err) {
+      setError('Could not check resume processing status.');
+    }
+  }, []);
 
   const onDrop = useCallback(async (acceptedFiles) => {
     if (acceptedFiles.length === 0) return;
@@ -17,17 +33,21 @@ const ResumeUpload = () => {
     setUploading(true);
     setError('');
     setUploadResult(null);
+    setProcessingStatus(null);
 
     try {
       const response = await resumeService.uploadResume(file, user.id);
       console.log(response)
       setUploadResult(response.data);
+      if (response.data.success && response.data.resumeId) {
+        pollStatus(response.data.resumeId);
+      }
     } catch (err) {
       setError(err.response?.data?.message || 'Failed to upload resume. Please try again.');
     } finally {
       setUploading(false);
     }
-  }, [user]);
+  }, [user, pollStatus]);
 
   const { getRootProps, getInputProps, isDragActive } = useDropzone({
     onDrop,
@@ -111,7 +131,9 @@ const ResumeUpload = () => {
             <div>
               <p className="font-medium text-green-900">Resume uploaded successfully!</p>
               <p className="text-sm text-green-700 mt-1">
-                {uploadResult.message}
+                {processingStatus?.status === 'QUESTIONS_READY'
+                  ? `Analysis complete: ${processingStatus.questionCount} questions are ready`
+                  : uploadResult.message}
               </p>
             </div>
           </div>
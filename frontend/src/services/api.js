@@ -54,6 +54,7 @@ export const resumeService = {
   },
   getUserResumes: (userId) => api.get(`/resumes/user/${userId}`),
   getResumeById: (id) => api.get(`/resumes/${id}`),
+  getResumeStatus: (id) => api.get(`/resumes/${id}/status`),
 };
 
 export const interviewService = {
@@ -63,12 +64,19 @@ export const interviewService = {
     }),
   startInterview: (id) => api.post(`/interviews/${id}/start`),
   endInterview: (id) => api.post(`/interviews/${id}/end`),
+  // Returns { answer, interviewVersion } rather than the whole interview
   submitAnswer: (interviewId, questionId, answerText, audioFilePath, duration) =>
     api.post(`/interviews/${interviewId}/submit-answer`, null, {
       params: { questionId, answerText, audioFilePath, duration }
     }),
   getUserInterviews: (userId) => api.get(`/interviews/user/${userId}`),
+  getInterviewHistory: (userId, cursor, size = 20) =>
+    api.get(`/interviews/user/${userId}/history`, {
+      params: { cursor, size }
+    }),
   getInterviewById: (id) => api.get(`/interviews/${id}`),
+  // Server-sent events for the interview, e.g. "answer-scored"
+  subscribeToEvents: (id) => new EventSource(`${API_BASE_URL}/interviews/${id}/events`),
 };
 
 export default api;
@@ -0,0 +1,43 @@
+package com.interviewiq.actuator;
+
+import com.interviewiq.ai.AiCallGuard;
+import com.interviewiq.ai.AiRequestScheduler;
+import com.interviewiq.ai.AiRequestType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@Endpoint(id = "aiclient")
+public class AiClientEndpoint {
+
+    @Autowired
+    private AiCallGuard aiCallGuard;
+
+    @Autowired
+    private AiRequestScheduler aiRequestScheduler;
+
+    @ReadOperation
+    public Map<String, Object> info() {
+        Map<String, Object> latencies = new LinkedHashMap<>();
+        for (AiRequestType type : AiRequestType.values()) {
+            latencies.put(type.name(), Map.of(
+                    "p50Ms", aiCallGuard.latencyPercentile(type, 0.5),
+                    "p95Ms", aiCallGuard.latencyPercentile(type, 0.95),
+                    "p99Ms", aiCallGuard.latencyPercentile(type, 0.99)));
+        }
+
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("circuitState", aiCallGuard.circuitState());
+        info.put("failureRate", aiCallGuard.failureRate());
+        info.put("hedgesSent", aiCallGuard.hedgesSent());
+        info.put("hedgesWon", aiCallGuard.hedgesWon());
+        info.put("queueDepth", aiRequestScheduler.queueDepth());
+        info.put("latencies", latencies);
+        return info;
+    }
+}
@@ -0,0 +1,28 @@
+package com.interviewiq.actuator;
+
+import com.interviewiq.service.FeedbackCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@Endpoint(id = "feedbackcache")
+public class FeedbackCacheEndpoint {
+
+    @Autowired
+    private FeedbackCache feedbackCache;
+
+    @ReadOperation
+    public Map<String, Object> info() {
+        return Map.of("size", feedbackCache.size());
+    }
+
+    @DeleteOperation
+    public void invalidate() {
+        feedbackCache.invalidateAll();
+    }
+}
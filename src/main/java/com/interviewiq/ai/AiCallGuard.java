@@ -0,0 +1,259 @@
+package com.interviewiq.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Tail-latency and failure protection around individual provider calls.
+ * <ul>
+ *   <li>Hedging: when a call runs longer than the configured percentile of recent
+ *   latencies for its request type, one duplicate is sent and whichever answers
+ *   first wins. Hedges are capped at maxHedgeRatio of all calls and only sent
+ *   while the rate limiter has spare budget.</li>
+ *   <li>Circuit breaking: while the recent failure rate is high, callers are
+ *   turned away before queuing instead of waiting for timeouts.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class AiCallGuard {
+
+    @Autowired
+    private AiRequestScheduler aiRequestScheduler;
+
+    @Value("${interviewiq.ai.hedge.enabled:true}")
+    private boolean hedgingEnabled;
+
+    @Value("${interviewiq.ai.hedge.percentile:0.95}")
+    private double hedgePercentile;
+
+    @Value("${interviewiq.ai.hedge.min-delay:1s}")
+    private Duration minHedgeDelay;
+
+    @Value("${interviewiq.ai.hedge.min-samples:20}")
+    private int minSamples;
+
+    @Value("${interviewiq.ai.hedge.max-ratio:0.1}")
+    private double maxHedgeRatio;
+
+    private final CircuitBreaker circuitBreaker;
+
+    private final Map<AiRequestType, LatencyTracker> latencies = new EnumMap<>(AiRequestType.class);
+
+    private final ExecutorService callPool;
+
+    private final AtomicLong calls = new AtomicLong();
+
+    private final Counter hedgesSent;
+
+    private final Counter hedgesWon;
+
+    private final Counter breakerRejections;
+
+    public AiCallGuard(MeterRegistry meterRegistry,
+                       @Value("${interviewiq.ai.client.max-concurrency:16}") int maxConcurrency,
+                       @Value("${interviewiq.ai.circuit-breaker.window-size:50}") int windowSize,
+                       @Value("${interviewiq.ai.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                       @Value("${interviewiq.ai.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+                       @Value("${interviewiq.ai.circuit-breaker.open-duration:30s}") Duration openDuration) {
+        this.circuitBreaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold, openDuration.toMillis());
+        for (AiRequestType type : AiRequestType.values()) {
+            latencies.put(type, new LatencyTracker(200));
+        }
+
+        // primaries plus hedges, with headroom for losers that are still finishing
+        AtomicInteger threadCount = new AtomicInteger();
+        this.callPool = new ThreadPoolExecutor(0, maxConcurrency * 4, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), r -> {
+                    Thread thread = new Thread(r, "ai-call-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.hedgesSent = Counter.builder("interviewiq.ai.hedge.sent")
+                .description("Hedged duplicate requests sent")
+                .register(meterRegistry);
+        this.hedgesWon = Counter.builder("interviewiq.ai.hedge.won")
+                .description("Hedged duplicates that answered before the original")
+                .register(meterRegistry);
+        this.breakerRejections = Counter.builder("interviewiq.ai.circuit.rejected")
+                .description("Calls failed fast because the circuit breaker was open")
+                .register(meterRegistry);
+        Gauge.builder("interviewiq.ai.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("0 = closed, 1 = half-open, 2 = open")
+                .register(meterRegistry);
+        Gauge.builder("interviewiq.ai.circuit.failure.rate", circuitBreaker, CircuitBreaker::failureRate)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return false when the breaker is open and the caller should fail fast
+     */
+    public boolean tryAcquire() {
+        if (circuitBreaker.tryAcquire()) {
+            return true;
+        }
+        breakerRejections.increment();
+        return false;
+    }
+
+    public void onSuccess() {
+        circuitBreaker.onSuccess();
+    }
+
+    public void onFailure() {
+        circuitBreaker.onFailure();
+    }
+
+    public void release() {
+        circuitBreaker.release();
+    }
+
+    /**
+     * Runs one logical call, hedging it if it is slow. Runtime exceptions thrown by
+     * the attempt (e.g. a 429) propagate unchanged when no attempt succeeds.
+     */
+    public <T> T execute(AiRequestType type, long estimatedTokens, Supplier<T> attempt) {
+        LatencyTracker tracker = latencies.get(type);
+        calls.incrementAndGet();
+        long start = System.nanoTime();
+
+        long hedgeDelay = hedgeDelayMillis(tracker);
+        CompletableFuture<T> primary;
+        try {
+            primary = hedgeDelay < 0 ? null : CompletableFuture.supplyAsync(attempt, callPool);
+        } catch (RejectedExecutionException e) {
+            primary = null;
+        }
+
+        T result;
+        if (primary == null) {
+            result = attempt.get();
+        } else {
+            result = awaitWithHedge(type, estimatedTokens, attempt, primary, hedgeDelay);
+        }
+
+        tracker.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return result;
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public double failureRate() {
+        return circuitBreaker.failureRate();
+    }
+
+    public long latencyPercentile(AiRequestType type, double percentile) {
+        return latencies.get(type).percentile(percentile);
+    }
+
+    public double hedgesSent() {
+        return hedgesSent.count();
+    }
+
+    public double hedgesWon() {
+        return hedgesWon.count();
+    }
+
+    private <T> T awaitWithHedge(AiRequestType type, long estimatedTokens, Supplier<T> attempt,
+                                 CompletableFuture<T> primary, long hedgeDelay) {
+        try {
+            return primary.get(hedgeDelay, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // primary is slow; fall through and consider a hedge
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+
+        if (hedgesSent.count() >= maxHedgeRatio * calls.get()
+                || !aiRequestScheduler.tryAcquireRateLimit(estimatedTokens)) {
+            return join(primary);
+        }
+
+        CompletableFuture<T> hedge;
+        try {
+            hedge = CompletableFuture.supplyAsync(attempt, callPool);
+        } catch (RejectedExecutionException e) {
+            return join(primary);
+        }
+        hedgesSent.increment();
+        log.debug("{} call exceeded {} ms, sent hedged request", type, hedgeDelay);
+        hedge.thenRun(() -> {
+            if (!primary.isDone()) {
+                hedgesWon.increment();
+            }
+        });
+
+        return join(firstSuccessful(primary, hedge));
+    }
+
+    private long hedgeDelayMillis(LatencyTracker tracker) {
+        if (!hedgingEnabled || tracker.count() < minSamples) {
+            return -1;
+        }
+        return Math.max(minHedgeDelay.toMillis(), tracker.percentile(hedgePercentile));
+    }
+
+    private static <T> CompletableFuture<T> firstSuccessful(CompletableFuture<T> first, CompletableFuture<T> second) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (CompletableFuture<T> candidate : List.of(first, second)) {
+            candidate.whenComplete((value, error) -> {
+                if (error == null) {
+                    result.complete(value);
+                } else if (failures.incrementAndGet() == 2) {
+                    result.completeExceptionally(error);
+                }
+            });
+        }
+        return result;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        callPool.shutdownNow();
+    }
+}
@@ -0,0 +1,20 @@
+package com.interviewiq.ai;
+
+import java.util.function.Consumer;
+
+/**
+ * Backend that turns a prompt into generated text. AiService builds prompts and
+ * parses results; scheduling, rate limiting, hedging and circuit breaking wrap
+ * whichever provider is active. Implementations signal throttling with
+ * HttpClientErrorException.TooManyRequests so the scheduler can back off.
+ */
+public interface AiProvider {
+
+    String generate(AiRequestType type, String prompt);
+
+    /**
+     * Generates text incrementally, passing each fragment to onChunk as it is
+     * produced, and returns the full text once generation has finished.
+     */
+    String stream(AiRequestType type, String prompt, Consumer<String> onChunk);
+}
@@ -0,0 +1,296 @@
+package com.interviewiq.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Single gateway for outbound AI work. Requests wait in a priority queue so that
+ * interactive answer feedback overtakes report, resume and question work, and are
+ * dispatched by a fixed set of workers under requests-per-minute and
+ * tokens-per-minute budgets. A worker only takes the head of the queue once the
+ * budget covers it, so under rate limiting the next permits still go to the
+ * highest-priority call rather than to whichever call was dequeued first. A 429
+ * from the provider is retried with exponential backoff, honouring Retry-After
+ * when present.
+ */
+@Slf4j
+@Component
+public class AiRequestScheduler {
+
+    @Value("${interviewiq.ai.client.max-concurrency:16}")
+    private int maxConcurrency;
+
+    @Value("${interviewiq.ai.client.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${interviewiq.ai.rate-limit.max-retries:4}")
+    private int maxRetries;
+
+    @Value("${interviewiq.ai.rate-limit.initial-backoff:1s}")
+    private Duration initialBackoff;
+
+    @Value("${interviewiq.ai.rate-limit.max-backoff:30s}")
+    private Duration maxBackoff;
+
+    private final TokenBucket requestBucket;
+
+    private final TokenBucket tokenBucket;
+
+    private final PriorityBlockingQueue<ScheduledCall<?>> queue = new PriorityBlockingQueue<>(64,
+            Comparator.<ScheduledCall<?>>comparingInt(call -> call.type.getPriority())
+                    .thenComparingLong(call -> call.sequence));
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    // Slots taken in the queue, reserved before a call is added so concurrent
+    // submits cannot overshoot queueCapacity
+    private final AtomicInteger queuedCalls = new AtomicInteger();
+
+    // Guards taking calls off the queue together with their rate-limit permits;
+    // waiting workers are woken when a call is submitted
+    private final Object dispatchLock = new Object();
+
+    private final Map<AiRequestType, AtomicInteger> queuedByType = new EnumMap<>(AiRequestType.class);
+
+    private final Map<AiRequestType, Timer> waitTimers = new EnumMap<>(AiRequestType.class);
+
+    private final Counter throttled;
+
+    private final List<Thread> workers = new ArrayList<>();
+
+    private volatile boolean running = true;
+
+    public AiRequestScheduler(MeterRegistry meterRegistry,
+                              @Value("${interviewiq.ai.rate-limit.requests-per-minute:300}") long requestsPerMinute,
+                              @Value("${interviewiq.ai.rate-limit.tokens-per-minute:1000000}") long tokensPerMinute) {
+        this.requestBucket = new TokenBucket(requestsPerMinute);
+        this.tokenBucket = new TokenBucket(tokensPerMinute);
+
+        Gauge.builder("interviewiq.ai.scheduler.queue.depth", queue, PriorityBlockingQueue::size)
+                .description("AI requests waiting for dispatch")
+                .register(meterRegistry);
+        for (AiRequestType type : AiRequestType.values()) {
+            AtomicInteger queued = new AtomicInteger();
+            queuedByType.put(type, queued);
+            Gauge.builder("interviewiq.ai.scheduler.queue.depth.by.type", queued, AtomicInteger::get)
+                    .tag("type", type.name())
+                    .register(meterRegistry);
+            waitTimers.put(type, Timer.builder("interviewiq.ai.scheduler.wait")
+                    .description("Time from submission until an AI request starts executing")
+                    .tag("type", type.name())
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+        }
+        Gauge.builder("interviewiq.ai.ratelimit.requests.available", requestBucket, TokenBucket::available)
+                .register(meterRegistry);
+        Gauge.builder("interviewiq.ai.ratelimit.tokens.available", tokenBucket, TokenBucket::available)
+                .register(meterRegistry);
+        this.throttled = Counter.builder("interviewiq.ai.scheduler.throttled")
+                .description("Provider 429 responses that triggered a backoff")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 0; i < maxConcurrency; i++) {
+            Thread worker = new Thread(this::runWorker, "ai-" + (i + 1));
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        ScheduledCall<?> call;
+        while ((call = queue.poll()) != null) {
+            queuedCalls.decrementAndGet();
+            call.result.completeExceptionally(new RejectedExecutionException("AI scheduler shutting down"));
+        }
+    }
+
+    /**
+     * Queues a call. The future completes exceptionally with a
+     * RejectedExecutionException when the queue already holds queueCapacity calls.
+     *
+     * @param estimatedPromptTokens rough size of the prompt, charged to the
+     *                              tokens-per-minute budget with the type's expected output
+     */
+    public <T> CompletableFuture<T> submit(AiRequestType type, long estimatedPromptTokens, Supplier<T> call) {
+        if (queuedCalls.incrementAndGet() > queueCapacity) {
+            queuedCalls.decrementAndGet();
+            return CompletableFuture.failedFuture(
+                    new RejectedExecutionException("AI request queue is full (" + queueCapacity + ")"));
+        }
+
+        ScheduledCall<T> scheduled = new ScheduledCall<>(type, sequence.incrementAndGet(),
+                estimatedPromptTokens + type.getExpectedOutputTokens(), call);
+        queuedByType.get(type).incrementAndGet();
+        queue.add(scheduled);
+        synchronized (dispatchLock) {
+            dispatchLock.notifyAll();
+        }
+        return scheduled.result;
+    }
+
+    /**
+     * Charges one extra request to the rate limits without waiting, for work such
+     * as hedged duplicates that should only be sent when there is spare budget.
+     */
+    public boolean tryAcquireRateLimit(long estimatedTokens) {
+        synchronized (dispatchLock) {
+            if (nanosUntilBudget(estimatedTokens) > 0) {
+                return false;
+            }
+            requestBucket.reserve(1);
+            tokenBucket.reserve(estimatedTokens);
+            return true;
+        }
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    private void runWorker() {
+        while (running) {
+            ScheduledCall<?> call;
+            try {
+                call = takeWithinRateLimit();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queuedCalls.decrementAndGet();
+            queuedByType.get(call.type).decrementAndGet();
+
+            try {
+                waitTimers.get(call.type).record(System.nanoTime() - call.submittedAt, TimeUnit.NANOSECONDS);
+                execute(call);
+            } catch (InterruptedException e) {
+                call.result.completeExceptionally(e);
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Waits until the head of the queue fits the rate limits, then removes it and
+     * charges its permits. The head is re-read after every wait, so a call submitted
+     * meanwhile with a higher priority is dispatched first.
+     */
+    private ScheduledCall<?> takeWithinRateLimit() throws InterruptedException {
+        synchronized (dispatchLock) {
+            while (true) {
+                ScheduledCall<?> head = queue.peek();
+                if (head == null) {
+                    dispatchLock.wait();
+                    continue;
+                }
+                long waitNanos = nanosUntilBudget(head.estimatedTokens);
+                if (waitNanos > 0) {
+                    TimeUnit.NANOSECONDS.timedWait(dispatchLock, waitNanos);
+                    continue;
+                }
+                if (queue.remove(head)) {
+                    requestBucket.reserve(1);
+                    tokenBucket.reserve(head.estimatedTokens);
+                    return head;
+                }
+            }
+        }
+    }
+
+    private long nanosUntilBudget(long estimatedTokens) {
+        return Math.max(requestBucket.nanosUntilAvailable(1), tokenBucket.nanosUntilAvailable(estimatedTokens));
+    }
+
+    // Retries of a call that is already running keep their worker and wait in line
+    private void awaitRateLimit(long estimatedTokens) throws InterruptedException {
+        long waitNanos = Math.max(requestBucket.reserve(1), tokenBucket.reserve(estimatedTokens));
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private <T> void execute(ScheduledCall<T> call) throws InterruptedException {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                call.result.complete(call.work.get());
+                return;
+            } catch (HttpClientErrorException.TooManyRequests e) {
+                throttled.increment();
+                if (attempt >= maxRetries) {
+                    call.result.completeExceptionally(e);
+                    return;
+                }
+                long backoff = backoffMillis(attempt, e.getResponseHeaders());
+                log.warn("AI provider returned 429 for {} request, retrying in {} ms", call.type, backoff);
+                Thread.sleep(backoff);
+                awaitRateLimit(call.estimatedTokens);
+            } catch (RuntimeException e) {
+                call.result.completeExceptionally(e);
+                return;
+            }
+        }
+    }
+
+    private long backoffMillis(int attempt, HttpHeaders headers) {
+        if (headers != null) {
+            String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+            if (retryAfter != null) {
+                try {
+                    return Math.min(maxBackoff.toMillis(), Long.parseLong(retryAfter.trim()) * 1000);
+                } catch (NumberFormatException ignored) {
+                    // HTTP-date form; fall through to exponential backoff
+                }
+            }
+        }
+        long exponential = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempt, 20));
+        // jitter in [exponential / 2, exponential] so retries from many workers spread out
+        return exponential / 2 + ThreadLocalRandom.current().nextLong(exponential / 2 + 1);
+    }
+
+    private static class ScheduledCall<T> {
+        private final AiRequestType type;
+        private final long sequence;
+        private final long estimatedTokens;
+        private final Supplier<T> work;
+        private final long submittedAt = System.nanoTime();
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        ScheduledCall(AiRequestType type, long sequence, long estimatedTokens, Supplier<T> work) {
+            this.type = type;
+            this.sequence = sequence;
+            this.estimatedTokens = estimatedTokens;
+            this.work = work;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.interviewiq.ai;
+
+/**
+ * Classes of outbound AI work, in scheduling order. Lower priority values are
+ * dispatched first. expectedOutputTokens feeds the tokens-per-minute limiter
+ * alongside the prompt size estimate.
+ */
+public enum AiRequestType {
+    ANSWER_FEEDBACK(0, 300),
+    BATCH_FEEDBACK(0, 1500),
+    OVERALL_REPORT(1, 1500),
+    RESUME_PARSE(2, 1500),
+    QUESTION_GENERATION(2, 1000);
+
+    private final int priority;
+    private final int expectedOutputTokens;
+
+    AiRequestType(int priority, int expectedOutputTokens) {
+        this.priority = priority;
+        this.expectedOutputTokens = expectedOutputTokens;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public int getExpectedOutputTokens() {
+        return expectedOutputTokens;
+    }
+}
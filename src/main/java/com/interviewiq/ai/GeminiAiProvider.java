@@ -0,0 +1,126 @@
+package com.interviewiq.ai;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewiq.exception.AiServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Component
+@Profile("!stub")
+public class GeminiAiProvider implements AiProvider {
+
+    @Value("${spring.ai.vertex.ai.gemini.api-key}")
+    private String apiKey;
+
+    @Value("${spring.ai.vertex.ai.gemini.model:gemini-2.0-flash}")
+    private String model;
+
+    @Value("${interviewiq.ai.gemini.base-url:https://generativelanguage.googleapis.com/v1beta}")
+    private String baseUrl;
+
+    @Autowired
+    private RestTemplate geminiRestTemplate;
+
+    private final JsonFactory jsonFactory;
+
+    public GeminiAiProvider(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * The response body is read straight off the connection with a streaming
+     * parser; only the generated text is materialised.
+     */
+    @Override
+    public String generate(AiRequestType type, String prompt) {
+        String url = modelUrl() + ":generateContent?key=" + apiKey;
+
+        String text = geminiRestTemplate.execute(url, HttpMethod.POST,
+                request -> writeRequest(request, prompt, MediaType.APPLICATION_JSON),
+                response -> {
+                    try (JsonParser parser = jsonFactory.createParser(response.getBody())) {
+                        return GeminiResponseReader.firstCandidateText(parser);
+                    }
+                });
+
+        if (text == null) {
+            throw new AiServiceUnavailableException("Gemini response contained no candidates");
+        }
+        return text;
+    }
+
+    /**
+     * Uses streamGenerateContent with alt=sse and relays each text fragment.
+     */
+    @Override
+    public String stream(AiRequestType type, String prompt, Consumer<String> onChunk) {
+        String url = modelUrl() + ":streamGenerateContent?alt=sse&key=" + apiKey;
+
+        return geminiRestTemplate.execute(url, HttpMethod.POST,
+                request -> writeRequest(request, prompt, MediaType.TEXT_EVENT_STREAM),
+                response -> {
+                    StringBuilder fullText = new StringBuilder();
+                    try (BufferedReader reader = new BufferedReader(
+                            new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            if (!line.startsWith("data:")) {
+                                continue;
+                            }
+                            String text;
+                            try (JsonParser parser = jsonFactory.createParser(line.substring(5))) {
+                                text = GeminiResponseReader.firstCandidateText(parser);
+                            }
+                            if (text != null && !text.isEmpty()) {
+                                fullText.append(text);
+                                onChunk.accept(text);
+                            }
+                        }
+                    }
+                    return fullText.toString();
+                });
+    }
+
+    private String modelUrl() {
+        return baseUrl + "/models/" + model;
+    }
+
+    /**
+     * Writes {"contents":[{"parts":[{"text": prompt}]}]} directly to the request body.
+     */
+    private void writeRequest(ClientHttpRequest request, String prompt, MediaType accept) throws IOException {
+        request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        request.getHeaders().setAccept(List.of(accept));
+        try (JsonGenerator generator = jsonFactory.createGenerator(request.getBody())) {
+            // the request owns its body stream; only flush it
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("contents");
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("parts");
+            generator.writeStartObject();
+            generator.writeStringField("text", prompt);
+            generator.writeEndObject();
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
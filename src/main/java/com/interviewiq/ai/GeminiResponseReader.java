@@ -0,0 +1,55 @@
+package com.interviewiq.ai;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Pulls candidates[0].content.parts[0].text out of a Gemini response with the
+ * Jackson streaming API. Every other field, including safety ratings and usage
+ * metadata, is skipped token by token without building a tree.
+ */
+final class GeminiResponseReader {
+
+    private GeminiResponseReader() {}
+
+    /**
+     * @param parser a parser positioned before the response object
+     * @return the first candidate's first text part, or null when the response has none
+     */
+    static String firstCandidateText(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT
+                || !enterField(parser, "candidates") || !enterFirstElement(parser)
+                || !enterField(parser, "content") || parser.currentToken() != JsonToken.START_OBJECT
+                || !enterField(parser, "parts") || !enterFirstElement(parser)
+                || !enterField(parser, "text")) {
+            return null;
+        }
+        return parser.currentToken() == JsonToken.VALUE_STRING ? parser.getText() : null;
+    }
+
+    /**
+     * Advances through the current object until the named field and leaves the
+     * parser on its value.
+     */
+    private static boolean enterField(JsonParser parser, String name) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if (name.equals(field)) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    /**
+     * Steps from the start of an array into its first element, which must be an object.
+     */
+    private static boolean enterFirstElement(JsonParser parser) throws IOException {
+        return parser.currentToken() == JsonToken.START_ARRAY
+                && parser.nextToken() == JsonToken.START_OBJECT;
+    }
+}
@@ -0,0 +1,247 @@
+package com.interviewiq.ai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewiq.util.JsonText;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the variable parts of prompts (resume text, parsed resume JSON, answers)
+ * inside per-prompt token budgets. Parsed resumes are compacted losslessly first;
+ * anything still over budget is truncated at a word boundary. The estimated size
+ * of each section before and after budgeting is published as
+ * interviewiq.ai.prompt.tokens, tagged with the request type and stage.
+ */
+@Slf4j
+@Component
+public class PromptBudgeter {
+
+    static final String TRUNCATION_MARKER = " ... [truncated]";
+
+    @Value("${interviewiq.ai.prompt.budget.resume-text:6000}")
+    private int resumeTextBudget;
+
+    @Value("${interviewiq.ai.prompt.budget.parsed-resume:2000}")
+    private int parsedResumeBudget;
+
+    @Value("${interviewiq.ai.prompt.budget.answer:800}")
+    private int answerBudget;
+
+    @Value("${interviewiq.ai.prompt.budget.transcript:6000}")
+    private int transcriptBudget;
+
+    private final ObjectMapper objectMapper;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public PromptBudgeter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Rough token count: the larger of ~4 characters per token and ~0.75 words per
+     * token, which tracks Gemini's tokenizer closely enough for budgeting English text.
+     */
+    public static long estimateTokens(CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+        long words = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); i++) {
+            boolean whitespace = Character.isWhitespace(text.charAt(i));
+            if (!whitespace && !inWord) {
+                words++;
+            }
+            inWord = !whitespace;
+        }
+        return Math.max((text.length() + 3) / 4, (words * 4 + 2) / 3);
+    }
+
+    /**
+     * Caps raw resume text sent for parsing.
+     */
+    public String fitResumeText(String resumeText) {
+        String fitted = truncate(resumeText, resumeTextBudget);
+        record(AiRequestType.RESUME_PARSE, resumeText, fitted);
+        return fitted;
+    }
+
+    /**
+     * Compacts parsed resume JSON for the question prompt: drops empty values,
+     * sections and whitespace, and removes duplicate skills (case-insensitive, across
+     * all technical_skills categories). Falls back to truncation when the content is
+     * not JSON or is still over budget.
+     */
+    public String fitParsedResume(String parsedContent) {
+        if (parsedContent == null) {
+            return null;
+        }
+        String fitted;
+        try {
+            JsonNode root = objectMapper.readTree(JsonText.stripCodeFences(parsedContent));
+            prune(root);
+            dedupeSkills(root.path("technical_skills"));
+            fitted = objectMapper.writeValueAsString(root);
+        } catch (Exception e) {
+            log.debug("Parsed resume is not JSON, truncating as text: {}", e.getMessage());
+            fitted = parsedContent.trim();
+        }
+        fitted = truncate(fitted, parsedResumeBudget);
+        record(AiRequestType.QUESTION_GENERATION, parsedContent, fitted);
+        return fitted;
+    }
+
+    /**
+     * Caps a single answer for a feedback prompt.
+     */
+    public String fitAnswer(AiRequestType type, String answer) {
+        String fitted = truncate(answer, answerBudget);
+        record(type, answer, fitted);
+        return fitted;
+    }
+
+    /**
+     * Shares the transcript budget across all answers of an interview. Answers
+     * under the fair share are kept whole and their unused share is handed to the
+     * longer ones, so only the longest answers are cut.
+     */
+    public List<String> fitTranscript(List<String> answers) {
+        int count = answers.size();
+        long[] sizes = new long[count];
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            sizes[i] = estimateTokens(answers.get(i));
+            total += sizes[i];
+        }
+        if (total <= transcriptBudget) {
+            recordTokens(AiRequestType.OVERALL_REPORT, total, total);
+            return answers;
+        }
+
+        List<Integer> bySize = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            bySize.add(i);
+        }
+        bySize.sort(Comparator.comparingLong(i -> sizes[i]));
+
+        long[] allowance = new long[count];
+        long remaining = transcriptBudget;
+        for (int k = 0; k < count; k++) {
+            int i = bySize.get(k);
+            allowance[i] = Math.min(sizes[i], remaining / (count - k));
+            remaining -= allowance[i];
+        }
+
+        List<String> fitted = new ArrayList<>(count);
+        long after = 0;
+        for (int i = 0; i < count; i++) {
+            String answer = truncate(answers.get(i), allowance[i]);
+            after += estimateTokens(answer);
+            fitted.add(answer);
+        }
+        recordTokens(AiRequestType.OVERALL_REPORT, total, after);
+        return fitted;
+    }
+
+    static String truncate(String text, long maxTokens) {
+        if (text == null || estimateTokens(text) <= maxTokens) {
+            return text;
+        }
+        // shrink proportionally to the estimate, then back up to a word boundary
+        int limit = (int) Math.max(0, text.length() * maxTokens / estimateTokens(text));
+        int cut = limit;
+        while (cut > 0 && !Character.isWhitespace(text.charAt(cut - 1))) {
+            cut--;
+        }
+        if (cut == 0) {
+            cut = limit;
+        }
+        return text.substring(0, cut).stripTrailing() + TRUNCATION_MARKER;
+    }
+
+    /**
+     * @return true when the node carries no information and can be removed
+     */
+    private static boolean prune(JsonNode node) {
+        if (node.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                if (prune(fields.next().getValue())) {
+                    fields.remove();
+                }
+            }
+            return node.isEmpty();
+        }
+        if (node.isArray()) {
+            Iterator<JsonNode> elements = node.elements();
+            while (elements.hasNext()) {
+                if (prune(elements.next())) {
+                    elements.remove();
+                }
+            }
+            return node.isEmpty();
+        }
+        return node.isNull() || (node.isTextual() && node.asText().isBlank());
+    }
+
+    private static void dedupeSkills(JsonNode technicalSkills) {
+        if (!technicalSkills.isObject()) {
+            return;
+        }
+        Set<String> seen = new HashSet<>();
+        Iterator<Map.Entry<String, JsonNode>> categories = technicalSkills.fields();
+        while (categories.hasNext()) {
+            JsonNode skills = categories.next().getValue();
+            if (!skills.isArray()) {
+                continue;
+            }
+            Iterator<JsonNode> elements = skills.elements();
+            while (elements.hasNext()) {
+                JsonNode skill = elements.next();
+                if (skill.isTextual() && !seen.add(skill.asText().trim().toLowerCase(Locale.ROOT))) {
+                    elements.remove();
+                }
+            }
+            if (skills.isEmpty()) {
+                categories.remove();
+            }
+        }
+    }
+
+    private void record(AiRequestType type, String original, String fitted) {
+        recordTokens(type, estimateTokens(original), estimateTokens(fitted));
+    }
+
+    private void recordTokens(AiRequestType type, long before, long after) {
+        summary(type, "original").record(before);
+        summary(type, "budgeted").record(after);
+    }
+
+    private DistributionSummary summary(AiRequestType type, String stage) {
+        return summaries.computeIfAbsent(type.name() + ':' + stage, key -> DistributionSummary
+                .builder("interviewiq.ai.prompt.tokens")
+                .description("Estimated tokens of the variable prompt content before and after budgeting")
+                .baseUnit("tokens")
+                .tag("type", type.name())
+                .tag("stage", stage)
+                .register(meterRegistry));
+    }
+}
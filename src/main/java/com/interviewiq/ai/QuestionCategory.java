@@ -0,0 +1,46 @@
+package com.interviewiq.ai;
+
+import java.util.List;
+
+/**
+ * Question categories generated by separate, smaller prompts in the pipelined
+ * question mode. Each lists the parsed resume sections it needs; generation for a
+ * category starts as soon as those sections have been parsed.
+ */
+public enum QuestionCategory {
+    TECHNICAL(3, List.of("technical_skills"), List.of("projects"),
+            "Technical depth in the specific technologies on the resume and problem-solving approach. " +
+                    "Include at least one system design question for senior profiles."),
+    EXPERIENCE(2, List.of("work_experience"), List.of("projects"),
+            "Practical experience and project impact: decisions made, trade-offs and measurable results."),
+    BEHAVIORAL(2, List.of("professional_summary", "work_experience"), List.of("key_strengths"),
+            "Behavioral competencies, teamwork, cultural fit and motivation, framed as work scenarios.");
+
+    private final int count;
+    private final List<String> requiredSections;
+    private final List<String> optionalSections;
+    private final String focus;
+
+    QuestionCategory(int count, List<String> requiredSections, List<String> optionalSections, String focus) {
+        this.count = count;
+        this.requiredSections = requiredSections;
+        this.optionalSections = optionalSections;
+        this.focus = focus;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public List<String> getRequiredSections() {
+        return requiredSections;
+    }
+
+    public List<String> getOptionalSections() {
+        return optionalSections;
+    }
+
+    public String getFocus() {
+        return focus;
+    }
+}
@@ -0,0 +1,203 @@
+package com.interviewiq.ai;
+
+import com.interviewiq.exception.AiServiceUnavailableException;
+import com.interviewiq.util.HashUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Offline provider for load and throughput testing, active under the "stub"
+ * profile. Returns canned but schema-valid output for every request type after a
+ * synthetic, log-normally distributed delay. Latency, scores and injected failures
+ * are seeded from the prompt, so the same prompt always behaves the same way.
+ */
+@Slf4j
+@Component
+@Profile("stub")
+public class StubAiProvider implements AiProvider {
+
+    private static final Pattern BATCH_ENTRY = Pattern.compile("(?m)^RESPONSE (\\d+):");
+
+    private static final Pattern QUESTION_CATEGORY = Pattern.compile("(?m)^QUESTION CATEGORY: (\\w+)");
+
+    @Value("${interviewiq.ai.stub.latency.median:800ms}")
+    private Duration medianLatency;
+
+    @Value("${interviewiq.ai.stub.latency.sigma:0.5}")
+    private double latencySigma;
+
+    @Value("${interviewiq.ai.stub.latency.max:30s}")
+    private Duration maxLatency;
+
+    @Value("${interviewiq.ai.stub.failure-rate:0.0}")
+    private double failureRate;
+
+    @Value("${interviewiq.ai.stub.stream-chunks:20}")
+    private int streamChunks;
+
+    @Override
+    public String generate(AiRequestType type, String prompt) {
+        Random random = seededRandom(prompt);
+        simulateLatency(random, 1.0);
+        return cannedResponse(type, prompt, random);
+    }
+
+    @Override
+    public String stream(AiRequestType type, String prompt, Consumer<String> onChunk) {
+        Random random = seededRandom(prompt);
+        String text = cannedResponse(type, prompt, random);
+
+        int chunkSize = Math.max(1, text.length() / Math.max(1, streamChunks));
+        for (int start = 0; start < text.length(); start += chunkSize) {
+            simulateLatency(random, 1.0 / streamChunks);
+            onChunk.accept(text.substring(start, Math.min(text.length(), start + chunkSize)));
+        }
+        return text;
+    }
+
+    private String cannedResponse(AiRequestType type, String prompt, Random random) {
+        if (random.nextDouble() < failureRate) {
+            throw new AiServiceUnavailableException("Stub provider injected failure for " + type);
+        }
+
+        return switch (type) {
+            case RESUME_PARSE -> RESUME_JSON;
+            case QUESTION_GENERATION -> questionsJson(prompt);
+            case ANSWER_FEEDBACK -> feedbackJson(random, -1);
+            case BATCH_FEEDBACK -> batchFeedbackJson(prompt, random);
+            case OVERALL_REPORT -> REPORT_MARKDOWN;
+        };
+    }
+
+    /**
+     * Per-category prompts get only the canned questions of that category.
+     */
+    private String questionsJson(String prompt) {
+        Matcher matcher = QUESTION_CATEGORY.matcher(prompt);
+        String category = matcher.find() ? matcher.group(1) : null;
+        return QUESTIONS.stream()
+                .filter(question -> category == null || question.contains("\"questionType\": \"" + category + "\""))
+                .collect(Collectors.joining(",\n", "[\n", "\n]"));
+    }
+
+    private String batchFeedbackJson(String prompt, Random random) {
+        StringBuilder json = new StringBuilder("[");
+        Matcher matcher = BATCH_ENTRY.matcher(prompt);
+        boolean first = true;
+        while (matcher.find()) {
+            if (!first) {
+                json.append(',');
+            }
+            json.append(feedbackJson(random, Integer.parseInt(matcher.group(1))));
+            first = false;
+        }
+        return json.append(']').toString();
+    }
+
+    private String feedbackJson(Random random, int index) {
+        double score = 4 + random.nextInt(11) * 0.5; // 4.0 - 9.0
+        return "{" +
+                (index >= 0 ? "\"index\": " + index + ", " : "") +
+                "\"score\": " + score + ", " +
+                "\"feedback\": \"Stub feedback: the answer addresses the question with reasonable structure.\", " +
+                "\"strengths\": \"Clear structure, relevant example\", " +
+                "\"improvements\": \"Quantify impact, discuss trade-offs\"" +
+                "}";
+    }
+
+    private void simulateLatency(Random random, double fraction) {
+        double millis = medianLatency.toMillis() * Math.exp(latencySigma * random.nextGaussian()) * fraction;
+        long delay = Math.min(maxLatency.toMillis(), Math.round(millis));
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AiServiceUnavailableException("Stub provider interrupted", e);
+        }
+    }
+
+    private Random seededRandom(String prompt) {
+        return new Random(HashUtils.sha256Hex(prompt).hashCode());
+    }
+
+    private static final String RESUME_JSON = "{\n" +
+            "  \"professional_summary\": \"Backend engineer with 5 years of experience building Java services.\",\n" +
+            "  \"technical_skills\": {\n" +
+            "    \"programming_languages\": [\"Java\", \"SQL\", \"JavaScript\"],\n" +
+            "    \"frameworks\": [\"Spring Boot\", \"Hibernate\", \"React\"],\n" +
+            "    \"tools\": [\"Git\", \"Docker\", \"Maven\"],\n" +
+            "    \"databases\": [\"MySQL\", \"Redis\"],\n" +
+            "    \"cloud_technologies\": [\"AWS\"]\n" +
+            "  },\n" +
+            "  \"work_experience\": [\n" +
+            "    {\n" +
+            "      \"company\": \"Example Corp\",\n" +
+            "      \"position\": \"Software Engineer\",\n" +
+            "      \"duration\": \"2020 - Present\",\n" +
+            "      \"responsibilities\": [\"Designed REST APIs\", \"Owned the payments service\"],\n" +
+            "      \"achievements\": [\"Cut p99 latency by 40%\"]\n" +
+            "    }\n" +
+            "  ],\n" +
+            "  \"education\": [\n" +
+            "    {\"institution\": \"State University\", \"degree\": \"B.Sc. Computer Science\", \"year\": \"2019\", \"gpa\": \"\"}\n" +
+            "  ],\n" +
+            "  \"projects\": [\n" +
+            "    {\"name\": \"Order pipeline\", \"description\": \"Event-driven order processing\", " +
+            "\"technologies\": [\"Kafka\", \"Spring Boot\"], \"outcomes\": \"Handled 5k orders/min\"}\n" +
+            "  ],\n" +
+            "  \"certifications\": [],\n" +
+            "  \"key_strengths\": [\"System design\", \"Ownership\"]\n" +
+            "}";
+
+    private static final List<String> QUESTIONS = List.of(
+            question("How does Spring Boot auto-configuration decide which beans to create?", "TECHNICAL", "MEDIUM", "Spring Boot"),
+            question("How would you diagnose a slow MySQL query in production?", "TECHNICAL", "MEDIUM", "MySQL"),
+            question("Design a rate limiter for a public REST API.", "TECHNICAL", "HARD", "System design"),
+            question("Walk me through how you cut p99 latency by 40% at Example Corp.", "EXPERIENCE", "MEDIUM", "Performance tuning"),
+            question("What trade-offs did you make when building the order pipeline?", "EXPERIENCE", "HARD", "Kafka"),
+            question("Tell me about a time you disagreed with a teammate on a design.", "BEHAVIORAL", "MEDIUM", "Collaboration"),
+            question("Describe a production incident you owned end to end.", "BEHAVIORAL", "HARD", "Ownership"));
+
+    private static String question(String text, String type, String difficulty, String skill) {
+        return "  {\"questionText\": \"" + text + "\", \"questionType\": \"" + type + "\", " +
+                "\"difficultyLevel\": \"" + difficulty + "\", \"targetSkill\": \"" + skill + "\", " +
+                "\"evaluationCriteria\": [\"Depth\", \"Concrete examples\"]}";
+    }
+
+    private static final String REPORT_MARKDOWN = "# INTERVIEW PERFORMANCE REPORT\n\n" +
+            "## Overall Score: 7/10\n\n" +
+            "## Executive Summary\n" +
+            "Stub report generated offline. The candidate shows solid fundamentals and communicates clearly.\n\n" +
+            "## Detailed Analysis\n\n" +
+            "### 🎯 Technical Competence (7/10)\n" +
+            "- Strengths: Good grasp of core frameworks\n" +
+            "- Areas for Development: Deeper system design trade-offs\n\n" +
+            "### 💬 Communication Skills (8/10)\n" +
+            "- Strengths: Structured answers\n" +
+            "- Areas for Development: More concise summaries\n\n" +
+            "### 📈 Experience & Impact (7/10)\n" +
+            "- Key Achievements: Measurable latency improvements\n" +
+            "- Experience Gaps: Limited large-scale data work\n\n" +
+            "### 🤝 Behavioral Fit (7/10)\n" +
+            "- Cultural Alignment: Collaborative\n" +
+            "- Development Areas: Influencing without authority\n\n" +
+            "## 🎯 Key Recommendations\n" +
+            "1. Practice system design interviews\n" +
+            "2. Quantify impact in every story\n" +
+            "3. Prepare trade-off discussions\n\n" +
+            "## 📊 Hiring Recommendation\n" +
+            "Hire - Solid fundamentals with room to grow";
+}
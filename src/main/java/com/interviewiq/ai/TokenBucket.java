@@ -0,0 +1,54 @@
+package com.interviewiq.ai;
+
+/**
+ * Reservation-style token bucket. {@link #reserve(long)} always takes the permits,
+ * letting the balance go negative, and returns how long the caller must wait
+ * before using them. Callers queue up fairly behind earlier reservations.
+ */
+public class TokenBucket {
+
+    private final long capacity;
+    private final double refillPerNano;
+    private double available;
+    private long lastRefill;
+
+    public TokenBucket(long capacityPerMinute) {
+        this.capacity = capacityPerMinute;
+        this.refillPerNano = capacityPerMinute / 60_000_000_000d;
+        this.available = capacityPerMinute;
+        this.lastRefill = System.nanoTime();
+    }
+
+    public synchronized long reserve(long permits) {
+        refill();
+        available -= Math.min(permits, capacity);
+        if (available >= 0) {
+            return 0;
+        }
+        return (long) Math.ceil(-available / refillPerNano);
+    }
+
+    /**
+     * How long until the permits could be taken without going negative; 0 when
+     * they are available now. Takes nothing.
+     */
+    public synchronized long nanosUntilAvailable(long permits) {
+        refill();
+        long needed = Math.min(permits, capacity);
+        if (available >= needed) {
+            return 0;
+        }
+        return (long) Math.ceil((needed - available) / refillPerNano);
+    }
+
+    public synchronized double available() {
+        refill();
+        return available;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        available = Math.min(capacity, available + (now - lastRefill) * refillPerNano);
+        lastRefill = now;
+    }
+}
@@ -0,0 +1,86 @@
+package com.interviewiq.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+@Configuration
+public class AiClientConfig {
+
+    @Value("${interviewiq.ai.client.connect-timeout:5s}")
+    private Duration connectTimeout;
+
+    @Value("${interviewiq.ai.client.read-timeout:60s}")
+    private Duration readTimeout;
+
+    @Value("${interviewiq.ai.client.pool.max-total:64}")
+    private int maxConnectionsTotal;
+
+    @Value("${interviewiq.ai.client.pool.max-per-route:32}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${interviewiq.ai.client.pool.idle-eviction:30s}")
+    private Duration idleEviction;
+
+    @Value("${interviewiq.ai.client.pool.time-to-live:5m}")
+    private Duration connectionTimeToLive;
+
+    // Off by default: only enable for an endpoint known to accept
+    // Content-Encoding: gzip request bodies, or every large call is rejected
+    @Value("${interviewiq.ai.client.gzip-requests:false}")
+    private boolean gzipRequests;
+
+    @Value("${interviewiq.ai.client.gzip-min-size:1024}")
+    private int gzipMinSize;
+
+    /**
+     * Pooled, keep-alive HttpClient shared by all Gemini calls, so repeated calls
+     * reuse warm TLS connections. Responses are transparently gunzipped since the
+     * client advertises Accept-Encoding by default.
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient geminiHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnectionsTotal)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.of(connectionTimeToLive))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEviction))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate geminiRestTemplate(RestTemplateBuilder builder, CloseableHttpClient geminiHttpClient) {
+        RestTemplateBuilder configured = builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(geminiHttpClient));
+        if (gzipRequests) {
+            configured = configured.additionalInterceptors(new GzipRequestInterceptor(gzipMinSize));
+        }
+        return configured.build();
+    }
+}
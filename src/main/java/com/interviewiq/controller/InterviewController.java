@@ -1,10 +1,15 @@
 package com.interviewiq.controller;
 
 import com.interviewiq.dto.InterviewDto;
+import com.interviewiq.dto.InterviewHistoryPage;
+import com.interviewiq.dto.SubmitAnswerResponse;
 import com.interviewiq.service.InterviewService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -32,20 +37,39 @@ public class InterviewController {
     }
 
     @PostMapping("/{id}/end")
-    public ResponseEntity<InterviewDto> endInterview(@PathVariable Long id) {
-        InterviewDto interview = interviewService.endInterview(id);
+    public ResponseEntity<InterviewDto> endInterview(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean streamFeedback) {
+        InterviewDto interview = interviewService.endInterview(id, streamFeedback);
         return ResponseEntity.ok(interview);
     }
 
+    @GetMapping(value = "/{id}/feedback/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOverallFeedback(@PathVariable Long id) {
+        return interviewService.streamOverallFeedback(id);
+    }
+
+    /**
+     * Interview events over SSE; "answer-scored" carries an AnswerDto once an answer
+     * submitted in async scoring mode has been scored.
+     */
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeToEvents(@PathVariable Long id) {
+        return interviewService.subscribeToEvents(id);
+    }
+
+    /**
+     * Returns only the new answer and the interview version; GET /{id} has the rest.
+     */
     @PostMapping("/{interviewId}/submit-answer")
-    public ResponseEntity<InterviewDto> submitAnswer(
+    public ResponseEntity<SubmitAnswerResponse> submitAnswer(
             @PathVariable Long interviewId,
             @RequestParam Long questionId,
             @RequestParam String answerText,
             @RequestParam(required = false) String audioFilePath,
             @RequestParam(required = false) Integer duration) {
-        InterviewDto interview = interviewService.submitAnswer(interviewId, questionId, answerText, audioFilePath, duration);
-        return ResponseEntity.ok(interview);
+        SubmitAnswerResponse response = interviewService.submitAnswer(interviewId, questionId, answerText, audioFilePath, duration);
+        return ResponseEntity.ok(response);
     }
 
     @GetMapping("/user/{userId}")
@@ -54,8 +78,24 @@ public class InterviewController {
         return ResponseEntity.ok(interviews);
     }
 
+    /**
+     * Summary-only history, newest first; pass the previous page's nextCursor to
+     * continue. Full details are on GET /{id}.
+     */
+    @GetMapping("/user/{userId}/history")
+    public ResponseEntity<InterviewHistoryPage> getInterviewHistory(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        InterviewHistoryPage page = interviewService.getInterviewHistory(userId, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<InterviewDto> getInterviewById(@PathVariable Long id) {
+    public ResponseEntity<InterviewDto> getInterviewById(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(interviewService.getInterviewETag(id))) {
+            return null;
+        }
         InterviewDto interview = interviewService.getInterviewById(id);
         return ResponseEntity.ok(interview);
     }
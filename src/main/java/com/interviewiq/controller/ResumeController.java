@@ -1,12 +1,15 @@
 package com.interviewiq.controller;
 
+import com.interviewiq.dto.ResumeDetailDto;
+import com.interviewiq.dto.ResumeImportStatusDto;
 import com.interviewiq.dto.ResumeResponseDto;
+import com.interviewiq.dto.ResumeStatusDto;
 import com.interviewiq.dto.ResumeUploadResponse;
-import com.interviewiq.entity.Resume;
 import com.interviewiq.service.ResumeService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -24,7 +27,45 @@ public class ResumeController {
             @RequestParam("file") MultipartFile file,
             @RequestParam("userId") Long userId) {
         ResumeUploadResponse response = resumeService.uploadResume(file, userId);
-        return ResponseEntity.ok(response);
+        if (!response.isSuccess()) {
+            return ResponseEntity.ok(response);
+        }
+        return ResponseEntity.accepted().body(response);
+    }
+
+    /**
+     * Bulk import: either a zip archive ("archive") or several files ("files").
+     * Returns the batch status; poll GET /imports/{batchId} for progress.
+     */
+    @PostMapping("/import")
+    public ResponseEntity<ResumeImportStatusDto> importResumes(
+            @RequestParam(value = "archive", required = false) MultipartFile archive,
+            @RequestParam(value = "files", required = false) List<MultipartFile> files,
+            @RequestParam("userId") Long userId) {
+        ResumeImportStatusDto status;
+        if (archive != null && !archive.isEmpty()) {
+            status = resumeService.importResumeArchive(archive, userId);
+        } else if (files != null && !files.isEmpty()) {
+            status = resumeService.importResumeFiles(files, userId);
+        } else {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.accepted().body(status);
+    }
+
+    @GetMapping("/imports/{batchId}")
+    public ResponseEntity<ResumeImportStatusDto> getImportStatus(@PathVariable Long batchId) {
+        ResumeImportStatusDto status = resumeService.getImportStatus(batchId);
+        return ResponseEntity.ok(status);
+    }
+
+    @GetMapping("/{id}/status")
+    public ResponseEntity<ResumeStatusDto> getResumeStatus(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(resumeService.getResumeETag(id))) {
+            return null;
+        }
+        ResumeStatusDto status = resumeService.getResumeStatus(id);
+        return ResponseEntity.ok(status);
     }
 
     @GetMapping("/user/{userId}")
@@ -34,8 +75,11 @@ public class ResumeController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Resume> getResumeById(@PathVariable Long id) {
-        Resume resume = resumeService.getResumeById(id);
+    public ResponseEntity<ResumeDetailDto> getResumeById(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(resumeService.getResumeETag(id))) {
+            return null;
+        }
+        ResumeDetailDto resume = resumeService.getResumeById(id);
         return ResponseEntity.ok(resume);
     }
 }
@@ -1,5 +1,7 @@
 package com.interviewiq.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.interviewiq.entity.Answer;
 import lombok.Data;
 
 import java.time.LocalDateTime;
@@ -14,12 +16,34 @@ public class AnswerDto {
     private String feedback;
     private String strengths;
     private String improvements;
+    private Answer.ScoringStatus scoringStatus;
     private LocalDateTime answeredAt;
     private Long questionId;
     private String questionText;
 
+    @JsonIgnore
+    private Long interviewId; // groups batch-loaded answers by interview
+
     // Constructors
     public AnswerDto() {}
 
+    public AnswerDto(Long id, String answerText, String audioFilePath, Integer duration, Double score, String feedback,
+                     String strengths, String improvements, Answer.ScoringStatus scoringStatus, LocalDateTime answeredAt,
+                     Long questionId, String questionText, Long interviewId) {
+        this.id = id;
+        this.answerText = answerText;
+        this.audioFilePath = audioFilePath;
+        this.duration = duration;
+        this.score = score;
+        this.feedback = feedback;
+        this.strengths = strengths;
+        this.improvements = improvements;
+        this.scoringStatus = scoringStatus;
+        this.answeredAt = answeredAt;
+        this.questionId = questionId;
+        this.questionText = questionText;
+        this.interviewId = interviewId;
+    }
+
 
 }
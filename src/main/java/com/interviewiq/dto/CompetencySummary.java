@@ -0,0 +1,34 @@
+package com.interviewiq.dto;
+
+import lombok.Data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Running digest of an interview's per-answer feedback, grouped by question type.
+ * Its size is bounded regardless of how many answers are folded in, so the final
+ * overall report prompt stays small.
+ */
+@Data
+public class CompetencySummary {
+    private int answerCount;
+    private Map<String, Competency> competencies = new LinkedHashMap<>();
+
+    @Data
+    public static class Competency {
+        private int answers;
+        private double scoreTotal;
+        private Map<String, Integer> strengths = new LinkedHashMap<>();
+        private Map<String, Integer> improvements = new LinkedHashMap<>();
+        private Highlight best;
+        private Highlight worst;
+    }
+
+    @Data
+    public static class Highlight {
+        private double score;
+        private String question;
+        private String feedback;
+    }
+}
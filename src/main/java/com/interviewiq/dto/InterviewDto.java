@@ -16,6 +16,8 @@ public class InterviewDto {
     private Integer totalDuration;
     private Double overallScore;
     private String overallFeedback;
+    private Interview.ReportStatus reportStatus;
+    private Long version;
     private LocalDateTime createdAt;
     private Long resumeId;
     private List<QuestionDto> questions;
@@ -0,0 +1,21 @@
+package com.interviewiq.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class InterviewHistoryPage {
+    private List<InterviewSummaryDto> interviews;
+    private String nextCursor; // null on the last page
+    private InterviewStatsDto stats; // first page only
+
+    // Constructors
+    public InterviewHistoryPage() {}
+
+    public InterviewHistoryPage(List<InterviewSummaryDto> interviews, String nextCursor, InterviewStatsDto stats) {
+        this.interviews = interviews;
+        this.nextCursor = nextCursor;
+        this.stats = stats;
+    }
+}
@@ -0,0 +1,21 @@
+package com.interviewiq.dto;
+
+import lombok.Data;
+
+@Data
+public class InterviewStatsDto {
+    private long totalInterviews;
+    private long completedInterviews;
+    private Double averageScore; // over scored interviews
+    private Double averageDuration; // minutes
+
+    // Constructors
+    public InterviewStatsDto() {}
+
+    public InterviewStatsDto(long totalInterviews, Long completedInterviews, Double averageScore, Double averageDuration) {
+        this.totalInterviews = totalInterviews;
+        this.completedInterviews = completedInterviews != null ? completedInterviews : 0;
+        this.averageScore = averageScore;
+        this.averageDuration = averageDuration;
+    }
+}
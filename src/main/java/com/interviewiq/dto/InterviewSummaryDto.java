@@ -0,0 +1,42 @@
+package com.interviewiq.dto;
+
+import com.interviewiq.entity.Interview;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * History list entry; the questions, answers and report are on the full
+ * {@link InterviewDto}.
+ */
+@Data
+public class InterviewSummaryDto {
+    private Long id;
+    private String title;
+    private Interview.InterviewStatus status;
+    private Double overallScore;
+    private Integer totalDuration;
+    private LocalDateTime startedAt;
+    private LocalDateTime endedAt;
+    private LocalDateTime createdAt;
+    private Long resumeId;
+    private long questionCount;
+
+    // Constructors
+    public InterviewSummaryDto() {}
+
+    public InterviewSummaryDto(Long id, String title, Interview.InterviewStatus status, Double overallScore,
+                               Integer totalDuration, LocalDateTime startedAt, LocalDateTime endedAt,
+                               LocalDateTime createdAt, Long resumeId, long questionCount) {
+        this.id = id;
+        this.title = title;
+        this.status = status;
+        this.overallScore = overallScore;
+        this.totalDuration = totalDuration;
+        this.startedAt = startedAt;
+        this.endedAt = endedAt;
+        this.createdAt = createdAt;
+        this.resumeId = resumeId;
+        this.questionCount = questionCount;
+    }
+}
@@ -1,5 +1,6 @@
 package com.interviewiq.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 
 @Data
@@ -8,6 +9,10 @@ public class QuestionDto {
     private String questionText;
     private String questionType;
     private String difficultyLevel;
+    private String targetSkill;
+
+    @JsonIgnore
+    private Long resumeId; // groups batch-loaded questions by resume
 
     // Constructors
     public QuestionDto() {}
@@ -19,4 +24,10 @@ public class QuestionDto {
         this.difficultyLevel = difficultyLevel;
     }
 
+    public QuestionDto(Long id, String questionText, String questionType, String difficultyLevel, String targetSkill, Long resumeId) {
+        this(id, questionText, questionType, difficultyLevel);
+        this.targetSkill = targetSkill;
+        this.resumeId = resumeId;
+    }
+
 }
@@ -0,0 +1,23 @@
+package com.interviewiq.dto;
+
+import com.interviewiq.entity.Resume;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class ResumeDetailDto {
+    private Long id;
+    private String fileName;
+    private Long fileSize;
+    private String contentType;
+    private LocalDateTime uploadedAt;
+    private Resume.ProcessingStatus processingStatus;
+    private String processingError;
+    private LocalDateTime statusUpdatedAt;
+    private String parsedContent;
+    private Long userId;
+
+    // Constructors
+    public ResumeDetailDto() {}
+}
@@ -0,0 +1,24 @@
+package com.interviewiq.dto;
+
+import com.interviewiq.entity.Resume;
+import com.interviewiq.entity.ResumeImportItem;
+import lombok.Data;
+
+@Data
+public class ResumeImportItemDto {
+    private String fileName;
+    private Long resumeId;
+    private String status; // REJECTED, or the resume's processing status
+    private String error;
+
+    // Constructors
+    public ResumeImportItemDto() {}
+
+    public ResumeImportItemDto(String fileName, Long resumeId, ResumeImportItem.ItemStatus itemStatus,
+                               Resume.ProcessingStatus processingStatus, String itemError, String processingError) {
+        this.fileName = fileName;
+        this.resumeId = resumeId;
+        this.status = processingStatus != null ? processingStatus.name() : itemStatus.name();
+        this.error = itemError != null ? itemError : processingError;
+    }
+}
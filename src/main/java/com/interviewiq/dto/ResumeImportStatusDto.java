@@ -0,0 +1,21 @@
+package com.interviewiq.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class ResumeImportStatusDto {
+    private Long batchId;
+    private String sourceName;
+    private LocalDateTime createdAt;
+    private String error;
+    private int totalFiles;
+    private int rejected;
+    private int pending; // imported, still being parsed or awaiting questions
+    private int questionsReady;
+    private int failed;
+    private boolean completed;
+    private List<ResumeImportItemDto> items;
+}
@@ -0,0 +1,25 @@
+package com.interviewiq.dto;
+
+import com.interviewiq.entity.Resume;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class ResumeStatusDto {
+    private Long resumeId;
+    private Resume.ProcessingStatus status;
+    private String error;
+    private LocalDateTime updatedAt;
+    private long questionCount;
+
+    // Constructors
+    public ResumeStatusDto() {}
+
+    public ResumeStatusDto(Long resumeId, Resume.ProcessingStatus status, String error, LocalDateTime updatedAt) {
+        this.resumeId = resumeId;
+        this.status = status;
+        this.error = error;
+        this.updatedAt = updatedAt;
+    }
+}
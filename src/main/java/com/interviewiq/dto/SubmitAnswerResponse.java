@@ -0,0 +1,17 @@
+package com.interviewiq.dto;
+
+import lombok.Data;
+
+@Data
+public class SubmitAnswerResponse {
+    private AnswerDto answer;
+    private Long interviewVersion;
+
+    // Constructors
+    public SubmitAnswerResponse() {}
+
+    public SubmitAnswerResponse(AnswerDto answer, Long interviewVersion) {
+        this.answer = answer;
+        this.interviewVersion = interviewVersion;
+    }
+}
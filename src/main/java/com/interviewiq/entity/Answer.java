@@ -36,6 +36,10 @@ public class Answer {
     @Column(name = "improvements", columnDefinition = "TEXT")
     private String improvements;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scoring_status")
+    private ScoringStatus scoringStatus;
+
     @Column(name = "answered_at")
     private LocalDateTime answeredAt;
 
@@ -47,6 +51,10 @@ public class Answer {
     @JoinColumn(name = "interview_id", nullable = false)
     private Interview interview;
 
+    public enum ScoringStatus {
+        PENDING, SCORED, FAILED
+    }
+
     @PrePersist
     protected void onCreate() {
         answeredAt = LocalDateTime.now();
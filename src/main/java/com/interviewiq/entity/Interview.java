@@ -8,7 +8,7 @@ import java.util.List;
 
 @Entity
 @Data
-@Table(name = "interviews")
+@Table(name = "interviews", indexes = @Index(name = "idx_interview_user_created", columnList = "user_id, created_at, id"))
 public class Interview {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -36,6 +36,22 @@ public class Interview {
     @Column(name = "overall_feedback", columnDefinition = "TEXT")
     private String overallFeedback;
 
+    // Bumped by every write that changes the InterviewDto, bulk updates included;
+    // GET /api/interviews/{id} uses it as the ETag
+    @Version
+    @Column(name = "version", columnDefinition = "BIGINT DEFAULT 0 NOT NULL")
+    private Long version;
+
+    // Set to PENDING when the interview ends; the report job then settles it through
+    // InterviewRepository.updatePendingReport
+    @Enumerated(EnumType.STRING)
+    @Column(name = "report_status")
+    private ReportStatus reportStatus;
+
+    // Written only through InterviewRepository.updateCompetencySummary
+    @Column(name = "competency_summary", columnDefinition = "TEXT", updatable = false)
+    private String competencySummary;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -54,6 +70,10 @@ public class Interview {
         CREATED, IN_PROGRESS, COMPLETED, CANCELLED
     }
 
+    public enum ReportStatus {
+        PENDING, READY, FAILED
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,39 @@
+package com.interviewiq.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Data
+@Table(name = "parsed_resume_cache")
+public class ParsedResumeCacheEntry {
+    @Id
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey; // SHA-256 of prompt version + extracted resume text
+
+    @Column(name = "prompt_version", nullable = false)
+    private String promptVersion;
+
+    @Lob
+    @Column(name = "parsed_content", columnDefinition = "TEXT", nullable = false)
+    private String parsedContent;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    // Constructors
+    public ParsedResumeCacheEntry() {}
+
+    public ParsedResumeCacheEntry(String cacheKey, String promptVersion, String parsedContent) {
+        this.cacheKey = cacheKey;
+        this.promptVersion = promptVersion;
+        this.parsedContent = parsedContent;
+    }
+}
@@ -25,6 +25,9 @@ public class Question {
     @Column(name = "difficulty_level")
     private String difficultyLevel; // e.g., "easy", "medium", "hard"
 
+    @Column(name = "target_skill")
+    private String targetSkill; // e.g., "Spring Boot", "Collaboration"
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -2,7 +2,10 @@ package com.interviewiq.entity;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -28,13 +31,35 @@ public class Resume {
     @Column(name = "content_type")
     private String contentType;
 
-    @Lob
-    @Column(columnDefinition = "TEXT")
-    private String parsedContent;
+    // SHA-256 of the file; identical uploads share one stored file
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // Parsed JSON lives in resume_contents; use get/setParsedContent
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "content_id")
+    private ResumeContent content;
 
     @Column(name = "uploaded_at")
     private LocalDateTime uploadedAt;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "processing_status")
+    private ProcessingStatus processingStatus;
+
+    @Column(name = "processing_error", length = 1000)
+    private String processingError;
+
+    @Column(name = "status_updated_at")
+    private LocalDateTime statusUpdatedAt;
+
+    @Version
+    @Column(name = "version", columnDefinition = "BIGINT DEFAULT 0 NOT NULL")
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -42,9 +67,17 @@ public class Resume {
     @OneToMany(mappedBy = "resume", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Question> questions;
 
+    public enum ProcessingStatus {
+        STORED, PARSED, QUESTIONS_READY, FAILED
+    }
+
     @PrePersist
     protected void onCreate() {
         uploadedAt = LocalDateTime.now();
+        if (processingStatus == null) {
+            processingStatus = ProcessingStatus.STORED;
+        }
+        statusUpdatedAt = uploadedAt;
     }
 
     // Constructors
@@ -58,5 +91,22 @@ public class Resume {
         this.user = user;
     }
 
+    /**
+     * Loads the lazy content row; outside a session the resume must have been read
+     * with {@code ResumeRepository.findWithContentById}.
+     */
+    @JsonIgnore
+    public String getParsedContent() {
+        return content != null ? content.getParsedContent() : null;
+    }
+
+    public void setParsedContent(String parsedContent) {
+        if (content == null) {
+            content = new ResumeContent(parsedContent);
+        } else {
+            content.setParsedContent(parsedContent);
+        }
+    }
+
 
 }
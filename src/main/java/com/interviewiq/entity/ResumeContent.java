@@ -0,0 +1,29 @@
+package com.interviewiq.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * Parsed resume JSON, kept off the resumes row so that loading a Resume does not
+ * read it. Reached through the lazy {@link Resume#getContent()} association.
+ */
+@Entity
+@Data
+@Table(name = "resume_contents")
+public class ResumeContent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Lob
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "parsed_content")
+    private String parsedContent;
+
+    // Constructors
+    public ResumeContent() {}
+
+    public ResumeContent(String parsedContent) {
+        this.parsedContent = parsedContent;
+    }
+}
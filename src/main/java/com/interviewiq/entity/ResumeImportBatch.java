@@ -0,0 +1,45 @@
+package com.interviewiq.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Data
+@Table(name = "resume_import_batches")
+public class ResumeImportBatch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "source_name")
+    private String sourceName; // archive name, or null for a multi-file upload
+
+    @Column(name = "total_files")
+    private Integer totalFiles;
+
+    // set when the upload could only be read in part
+    @Column(name = "error", length = 1000)
+    private String error;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    // Constructors
+    public ResumeImportBatch() {}
+
+    public ResumeImportBatch(String sourceName, User user) {
+        this.sourceName = sourceName;
+        this.user = user;
+    }
+}
@@ -0,0 +1,45 @@
+package com.interviewiq.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+@Entity
+@Data
+@Table(name = "resume_import_items", indexes = @Index(name = "idx_import_item_batch", columnList = "batch_id"))
+public class ResumeImportItem {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ItemStatus status;
+
+    @Column(name = "error", length = 1000)
+    private String error;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "batch_id", nullable = false)
+    private ResumeImportBatch batch;
+
+    // null when the file was rejected
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "resume_id")
+    private Resume resume;
+
+    public enum ItemStatus {
+        IMPORTED, REJECTED
+    }
+
+    // Constructors
+    public ResumeImportItem() {}
+
+    public ResumeImportItem(ResumeImportBatch batch, String fileName, ItemStatus status) {
+        this.batch = batch;
+        this.fileName = fileName;
+        this.status = status;
+    }
+}
@@ -0,0 +1,17 @@
+package com.interviewiq.exception;
+
+/**
+ * Raised when an AI call cannot produce a usable result: the circuit breaker is
+ * open, the request queue is full, the provider keeps failing or it returned no
+ * candidates. Callers decide what to persist instead of storing an error string.
+ */
+public class AiServiceUnavailableException extends RuntimeException {
+
+    public AiServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public AiServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,13 +1,44 @@
 package com.interviewiq.repository;
 
+import com.interviewiq.dto.AnswerDto;
 import com.interviewiq.entity.Answer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface AnswerRepository extends JpaRepository<Answer, Long> {
     List<Answer> findByInterviewIdOrderByAnsweredAtAsc(Long interviewId);
     List<Answer> findByQuestionId(Long questionId);
+
+    @Query("SELECT new com.interviewiq.dto.AnswerDto(a.id, a.answerText, a.audioFilePath, a.duration, a.score, a.feedback, " +
+            "a.strengths, a.improvements, a.scoringStatus, a.answeredAt, q.id, q.questionText, a.interview.id) " +
+            "FROM Answer a JOIN a.question q WHERE a.interview.id IN :interviewIds ORDER BY a.id")
+    List<AnswerDto> findDtosByInterviewIdIn(@Param("interviewIds") Collection<Long> interviewIds);
+
+    boolean existsByInterviewId(Long interviewId);
+
+    @Query("SELECT a FROM Answer a JOIN FETCH a.question WHERE a.interview.id = :interviewId ORDER BY a.answeredAt")
+    List<Answer> findWithQuestionByInterviewId(@Param("interviewId") Long interviewId);
+
+    @Query("SELECT a FROM Answer a JOIN FETCH a.question WHERE a.scoringStatus = :status")
+    List<Answer> findWithQuestionByScoringStatus(@Param("status") Answer.ScoringStatus status);
+
+    // Background scoring writes only its own columns, never a stale copy of the row
+    @Modifying
+    @Transactional
+    @Query("UPDATE Answer a SET a.score = :score, a.feedback = :feedback, a.strengths = :strengths, " +
+            "a.improvements = :improvements, a.scoringStatus = :status WHERE a.id = :id")
+    int updateScoring(@Param("id") Long id,
+                      @Param("score") Double score,
+                      @Param("feedback") String feedback,
+                      @Param("strengths") String strengths,
+                      @Param("improvements") String improvements,
+                      @Param("status") Answer.ScoringStatus status);
 }
@@ -1,13 +1,81 @@
 package com.interviewiq.repository;
 
+import com.interviewiq.dto.InterviewStatsDto;
+import com.interviewiq.dto.InterviewSummaryDto;
 import com.interviewiq.entity.Interview;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface InterviewRepository extends JpaRepository<Interview, Long> {
     List<Interview> findByUserIdOrderByCreatedAtDesc(Long userId);
     List<Interview> findByUserIdAndStatus(Long userId, Interview.InterviewStatus status);
+
+    // Keyset pages over (createdAt, id), served by idx_interview_user_created
+    @Query("SELECT new com.interviewiq.dto.InterviewSummaryDto(i.id, i.title, i.status, i.overallScore, i.totalDuration, " +
+            "i.startedAt, i.endedAt, i.createdAt, i.resume.id, (SELECT COUNT(q) FROM Question q WHERE q.resume = i.resume)) " +
+            "FROM Interview i WHERE i.user.id = :userId ORDER BY i.createdAt DESC, i.id DESC")
+    List<InterviewSummaryDto> findSummariesByUserId(@Param("userId") Long userId, Limit limit);
+
+    @Query("SELECT new com.interviewiq.dto.InterviewSummaryDto(i.id, i.title, i.status, i.overallScore, i.totalDuration, " +
+            "i.startedAt, i.endedAt, i.createdAt, i.resume.id, (SELECT COUNT(q) FROM Question q WHERE q.resume = i.resume)) " +
+            "FROM Interview i WHERE i.user.id = :userId " +
+            "AND (i.createdAt < :createdAt OR (i.createdAt = :createdAt AND i.id < :id)) " +
+            "ORDER BY i.createdAt DESC, i.id DESC")
+    List<InterviewSummaryDto> findSummariesByUserIdBefore(@Param("userId") Long userId,
+                                                          @Param("createdAt") LocalDateTime createdAt,
+                                                          @Param("id") Long id,
+                                                          Limit limit);
+
+    @Query("SELECT new com.interviewiq.dto.InterviewStatsDto(COUNT(i), SUM(CASE WHEN i.status = :completed THEN 1 ELSE 0 END), " +
+            "AVG(i.overallScore), AVG(i.totalDuration)) FROM Interview i WHERE i.user.id = :userId")
+    InterviewStatsDto findStatsByUserId(@Param("userId") Long userId, @Param("completed") Interview.InterviewStatus completed);
+
+    @Query("SELECT i.id FROM Interview i WHERE i.reportStatus = :status")
+    List<Long> findIdsByReportStatus(@Param("status") Interview.ReportStatus status);
+
+    @Modifying
+    @Transactional
+    // Only settles a PENDING report, so a late failure cannot overwrite a READY one
+    @Query("UPDATE Interview i SET i.overallFeedback = :report, i.reportStatus = :status, i.version = i.version + 1 " +
+            "WHERE i.id = :id AND i.reportStatus = :pending")
+    int updatePendingReport(@Param("id") Long id, @Param("report") String report, @Param("status") Interview.ReportStatus status,
+                            @Param("pending") Interview.ReportStatus pending);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Interview i SET i.status = :status, i.startedAt = :startedAt, i.version = i.version + 1 WHERE i.id = :id")
+    int updateStarted(@Param("id") Long id, @Param("status") Interview.InterviewStatus status,
+                      @Param("startedAt") LocalDateTime startedAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Interview i SET i.overallScore = :score, i.version = i.version + 1 WHERE i.id = :id")
+    int updateOverallScore(@Param("id") Long id, @Param("score") Double score);
+
+    // For changes to the interview's answers, which live in their own table
+    @Modifying
+    @Transactional
+    @Query("UPDATE Interview i SET i.version = i.version + 1 WHERE i.id = :id")
+    int incrementVersion(@Param("id") Long id);
+
+    @Query("SELECT i.version FROM Interview i WHERE i.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT i.competencySummary FROM Interview i WHERE i.id = :id")
+    String findCompetencySummaryById(@Param("id") Long id);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Interview i SET i.competencySummary = :summary WHERE i.id = :id")
+    int updateCompetencySummary(@Param("id") Long id, @Param("summary") String summary);
 }
@@ -0,0 +1,14 @@
+package com.interviewiq.repository;
+
+import com.interviewiq.entity.ParsedResumeCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ParsedResumeCacheRepository extends JpaRepository<ParsedResumeCacheEntry, String> {
+    @Transactional
+    long deleteByCreatedAtBefore(LocalDateTime cutoff);
+}
@@ -1,13 +1,23 @@
 package com.interviewiq.repository;
 
+import com.interviewiq.dto.QuestionDto;
 import com.interviewiq.entity.Question;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface QuestionRepository extends JpaRepository<Question, Long> {
     List<Question> findByResumeIdOrderByCreatedAtAsc(Long resumeId);
     List<Question> findByResumeIdAndQuestionType(Long resumeId, String questionType);
+    long countByResumeId(Long resumeId);
+    long countByResumeIdAndQuestionType(Long resumeId, String questionType);
+
+    @Query("SELECT new com.interviewiq.dto.QuestionDto(q.id, q.questionText, q.questionType, q.difficultyLevel, q.targetSkill, q.resume.id) " +
+            "FROM Question q WHERE q.resume.id IN :resumeIds ORDER BY q.id")
+    List<QuestionDto> findDtosByResumeIdIn(@Param("resumeIds") Collection<Long> resumeIds);
 }
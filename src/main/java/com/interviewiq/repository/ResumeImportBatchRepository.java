@@ -0,0 +1,9 @@
+package com.interviewiq.repository;
+
+import com.interviewiq.entity.ResumeImportBatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ResumeImportBatchRepository extends JpaRepository<ResumeImportBatch, Long> {
+}
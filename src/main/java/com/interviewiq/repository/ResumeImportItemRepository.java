@@ -0,0 +1,22 @@
+package com.interviewiq.repository;
+
+import com.interviewiq.dto.ResumeImportItemDto;
+import com.interviewiq.entity.Resume;
+import com.interviewiq.entity.ResumeImportItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ResumeImportItemRepository extends JpaRepository<ResumeImportItem, Long> {
+    @Query("SELECT new com.interviewiq.dto.ResumeImportItemDto(i.fileName, r.id, i.status, r.processingStatus, i.error, r.processingError) " +
+            "FROM ResumeImportItem i LEFT JOIN i.resume r WHERE i.batch.id = :batchId ORDER BY i.id")
+    List<ResumeImportItemDto> findItemsByBatchId(@Param("batchId") Long batchId);
+
+    @Query("SELECT r.id FROM ResumeImportItem i JOIN i.resume r WHERE r.processingStatus IN :statuses ORDER BY i.id")
+    List<Long> findResumeIdsByProcessingStatusIn(@Param("statuses") Collection<Resume.ProcessingStatus> statuses);
+}
@@ -1,6 +1,7 @@
 package com.interviewiq.repository;
 
 import com.interviewiq.dto.ResumeResponseDto;
+import com.interviewiq.dto.ResumeStatusDto;
 import com.interviewiq.dto.ResumeUploadResponse;
 import com.interviewiq.entity.Resume;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,13 +9,32 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ResumeRepository extends JpaRepository<Resume, Long> {
     List<Resume> findByUserIdOrderByUploadedAtDesc(Long userId);
-    List<Resume> findByUserIdAndParsedContentIsNotNull(Long userId);
+    List<Resume> findByUserIdAndContentIsNotNull(Long userId);
+
+    @Query("SELECT r FROM Resume r LEFT JOIN FETCH r.content WHERE r.id = :id")
+    Optional<Resume> findWithContentById(@Param("id") Long id);
     @Query("SELECT new com.interviewiq.dto.ResumeResponseDto(r.id,r.fileName,r.uploadedAt) FROM Resume r WHERE r.user.id = :userId Order By r.uploadedAt DESC")
     List<ResumeResponseDto> findAllResumeIdsByUserId(@Param("userId") Long userId);
 
+    @Query("SELECT new com.interviewiq.dto.ResumeStatusDto(r.id, r.processingStatus, r.processingError, r.statusUpdatedAt) FROM Resume r WHERE r.id = :id")
+    Optional<ResumeStatusDto> findStatusById(@Param("id") Long id);
+
+    @Query("SELECT r.version FROM Resume r WHERE r.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT r.id FROM Resume r WHERE r.processingStatus IN :statuses")
+    List<Long> findIdsByProcessingStatusIn(@Param("statuses") Collection<Resume.ProcessingStatus> statuses);
+
+    // Bulk-imported resumes are re-dispatched by ResumeImportService instead
+    @Query("SELECT r.id FROM Resume r WHERE r.processingStatus IN :statuses " +
+            "AND NOT EXISTS (SELECT i.id FROM ResumeImportItem i WHERE i.resume = r)")
+    List<Long> findUploadedIdsByProcessingStatusIn(@Param("statuses") Collection<Resume.ProcessingStatus> statuses);
+
 }
@@ -1,45 +1,171 @@
 package com.interviewiq.service;
 
+import com.fasterxml.jackson.core.json.JsonReadFeature;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.interviewiq.ai.AiCallGuard;
+import com.interviewiq.ai.AiProvider;
+import com.interviewiq.ai.AiRequestScheduler;
+import com.interviewiq.ai.AiRequestType;
+import com.interviewiq.ai.PromptBudgeter;
+import com.interviewiq.ai.QuestionCategory;
 import com.interviewiq.dto.FeedbackResponse;
 import com.interviewiq.dto.QuestionResponseDto;
 import com.interviewiq.entity.Question;
 import com.interviewiq.entity.Resume;
-import lombok.AllArgsConstructor;
-import lombok.NoArgsConstructor;
+import com.interviewiq.exception.AiServiceUnavailableException;
+import com.interviewiq.util.HashUtils;
+import com.interviewiq.util.JsonText;
+import com.interviewiq.util.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.HttpClientErrorException;
 
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
-@NoArgsConstructor
-@AllArgsConstructor
 public class AiService {
 
-    @Value("${spring.ai.vertex.ai.gemini.api-key}")
-    private String apiKey;
+    // Bump whenever the parseResume prompt changes so cached results are not reused
+    public static final String PARSE_RESUME_PROMPT_VERSION = "v1";
 
-    @Value("${spring.ai.vertex.ai.gemini.project-id}")
-    private String projectId;
+    // Bump whenever the generateFeedback prompt changes so cached feedback is not reused
+    public static final String FEEDBACK_PROMPT_VERSION = "v1";
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Autowired
+    private AiProvider aiProvider;
+
+    @Autowired
+    private AiRequestScheduler aiRequestScheduler;
+
+    @Autowired
+    private AiCallGuard aiCallGuard;
+
+    @Autowired
+    private PromptBudgeter promptBudgeter;
+
+    private final SingleFlight<String> inFlightCalls = new SingleFlight<>();
+
+    // Readers are immutable and thread-safe, so they are built once from the shared
+    // mapper and tolerate the extra fields and trailing commas models tend to emit
+    private final ObjectReader feedbackReader;
+
+    private final ObjectReader batchFeedbackReader;
+
+    private final ObjectReader questionsReader;
+
+    public AiService(MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        ObjectReader lenient = objectMapper.reader()
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .with(JsonReadFeature.ALLOW_TRAILING_COMMA);
+        this.feedbackReader = lenient.forType(FeedbackResponse.class);
+        this.batchFeedbackReader = lenient.forType(BatchFeedbackItem.class);
+        this.questionsReader = lenient.forType(new TypeReference<List<QuestionResponseDto>>() {});
+
+        Gauge.builder("interviewiq.ai.inflight", inFlightCalls, SingleFlight::inFlight)
+                .description("Distinct AI prompts currently in flight")
+                .register(meterRegistry);
+        FunctionCounter.builder("interviewiq.ai.coalesced", inFlightCalls, SingleFlight::coalescedCount)
+                .description("Calls that joined an identical in-flight AI request")
+                .register(meterRegistry);
+    }
 
     public String parseResume(String resumeContent) {
-        String prompt = "ANALYZE AND STRUCTURE THIS RESUME\n\n" +
-                "RESUME CONTENT:\n" + resumeContent + "\n\n" +
+        return callAi(buildParseResumePrompt(resumeContent), AiRequestType.RESUME_PARSE);
+    }
+
+    public CompletableFuture<String> parseResumeAsync(String resumeContent) {
+        return callAiAsync(buildParseResumePrompt(resumeContent), AiRequestType.RESUME_PARSE);
+    }
+
+    /**
+     * Streams the resume parse so callers can act on sections as soon as the model
+     * has written them. The future completes with the full JSON text.
+     */
+    public CompletableFuture<String> streamParseResume(String resumeContent, Consumer<String> onChunk) {
+        String prompt = buildParseResumePrompt(resumeContent);
+        return guarded(AiRequestType.RESUME_PARSE, PromptBudgeter.estimateTokens(prompt),
+                () -> aiProvider.stream(AiRequestType.RESUME_PARSE, prompt, onChunk));
+    }
+
+    public List<Question> generateQuestions(Resume resume) {
+        String responseContent = callAi(buildQuestionsPrompt(resume), AiRequestType.QUESTION_GENERATION);
+        return parseQuestionsFromJson(responseContent, resume);
+    }
+
+    public CompletableFuture<List<Question>> generateQuestionsAsync(Resume resume) {
+        return callAiAsync(buildQuestionsPrompt(resume), AiRequestType.QUESTION_GENERATION)
+                .thenApply(responseContent -> parseQuestionsFromJson(responseContent, resume));
+    }
+
+    /**
+     * Generates only the questions of one category from the resume sections that
+     * category needs. Every returned question is typed as the category and the list
+     * is capped at the category's count.
+     */
+    public CompletableFuture<List<Question>> generateCategoryQuestionsAsync(Resume resume, QuestionCategory category, String resumeSections) {
+        return callAiAsync(buildCategoryQuestionsPrompt(category, resumeSections), AiRequestType.QUESTION_GENERATION)
+                .thenApply(responseContent -> {
+                    List<Question> questions = parseQuestionsFromJson(responseContent, resume);
+                    questions.forEach(question -> question.setQuestionType(category.name()));
+                    return questions.size() > category.getCount()
+                            ? new ArrayList<>(questions.subList(0, category.getCount()))
+                            : questions;
+                });
+    }
+
+    public String generateFeedback(String questionText, String answerText) {
+        return callAi(buildFeedbackPrompt(questionText, answerText), AiRequestType.ANSWER_FEEDBACK);
+    }
+
+    public CompletableFuture<String> generateFeedbackAsync(String questionText, String answerText) {
+        return callAiAsync(buildFeedbackPrompt(questionText, answerText), AiRequestType.ANSWER_FEEDBACK);
+    }
+
+    /**
+     * Scores several question/answer pairs in one prompt. The response is a JSON
+     * array with one feedback object per pair, tagged with the pair's index.
+     */
+    public CompletableFuture<String> generateBatchFeedbackAsync(List<String> questions, List<String> answers) {
+        return callAiAsync(buildBatchFeedbackPrompt(questions, answers), AiRequestType.BATCH_FEEDBACK);
+    }
+
+    public String generateOverallFeedback(List<String> allAnswers, List<String> allQuestions) {
+        return callAi(buildOverallFeedbackPrompt(allAnswers, allQuestions), AiRequestType.OVERALL_REPORT);
+    }
+
+    public CompletableFuture<String> generateOverallFeedbackAsync(List<String> allAnswers, List<String> allQuestions) {
+        return callAiAsync(buildOverallFeedbackPrompt(allAnswers, allQuestions), AiRequestType.OVERALL_REPORT);
+    }
+
+    /**
+     * Final reduce step of the incremental report: writes the same report as
+     * {@link #generateOverallFeedback} from a pre-computed competency summary
+     * instead of the full transcript.
+     */
+    public String generateOverallFeedbackFromSummary(String competencySummary) {
+        return callAi(buildSummaryReportPrompt(competencySummary), AiRequestType.OVERALL_REPORT);
+    }
+
+    private String buildParseResumePrompt(String resumeContent) {
+        return "ANALYZE AND STRUCTURE THIS RESUME\n\n" +
+                "RESUME CONTENT:\n" + promptBudgeter.fitResumeText(resumeContent) + "\n\n" +
                 "TASK: Extract and organize the following information in a structured JSON format:\n" +
                 "{\n" +
                 "  \"professional_summary\": \"Brief professional overview\",\n" +
@@ -84,12 +210,11 @@ public class AiService {
                 "- Include specific achievements and metrics where available\n" +
                 "- If information is missing for any section, leave it empty\n" +
                 "- Return ONLY valid JSON, no additional text";
-
-        return callGeminiAPI(prompt);
     }
-    public List<Question> generateQuestions(Resume resume) {
-        String prompt = "ROLE: Senior Technical Interviewer\n\n" +
-                "RESUME DATA:\n" + resume.getParsedContent() + "\n\n" +
+
+    private String buildQuestionsPrompt(Resume resume) {
+        return "ROLE: Senior Technical Interviewer\n\n" +
+                "RESUME DATA:\n" + promptBudgeter.fitParsedResume(resume.getParsedContent()) + "\n\n" +
                 "TASK: Generate 7 targeted interview questions that assess:\n" +
                 "1. Technical depth in mentioned technologies\n" +
                 "2. Practical experience and project impact\n" +
@@ -117,16 +242,37 @@ public class AiService {
                 "- Behavioral questions should relate to work scenarios\n" +
                 "- Ensure difficulty progression from medium to hard\n" +
                 "- Return ONLY the JSON array, no other text";
+    }
 
-        String responseContent = callGeminiAPI(prompt);
-        return parseQuestionsFromJson(responseContent, resume);
+    private String buildCategoryQuestionsPrompt(QuestionCategory category, String resumeSections) {
+        return "ROLE: Senior Technical Interviewer\n\n" +
+                "QUESTION CATEGORY: " + category.name() + "\n\n" +
+                "RESUME SECTIONS:\n" + promptBudgeter.fitParsedResume(resumeSections) + "\n\n" +
+                "TASK: Generate exactly " + category.getCount() + " " + category.name().toLowerCase() +
+                " interview questions that assess:\n" +
+                category.getFocus() + "\n\n" +
+                "OUTPUT FORMAT (STRICT JSON):\n" +
+                "[\n" +
+                "  {\n" +
+                "    \"questionText\": \"Specific, actionable question\",\n" +
+                "    \"questionType\": \"" + category.name() + "\",\n" +
+                "    \"difficultyLevel\": \"EASY|MEDIUM|HARD\",\n" +
+                "    \"targetSkill\": \"Specific technology or competency being assessed\",\n" +
+                "    \"evaluationCriteria\": [\"What interviewer should look for in answer\"]\n" +
+                "  }\n" +
+                "]\n\n" +
+                "GUIDELINES:\n" +
+                "- Questions should be open-ended and require detailed responses\n" +
+                "- Base every question on the resume sections above\n" +
+                "- Ensure difficulty progression from medium to hard\n" +
+                "- Return ONLY the JSON array, no other text";
     }
 
-    public String generateFeedback(String questionText, String answerText) {
-        String prompt = "ROLE: Expert Interview Coach\n\n" +
+    private String buildFeedbackPrompt(String questionText, String answerText) {
+        return "ROLE: Expert Interview Coach\n\n" +
                 "EVALUATE THIS INTERVIEW RESPONSE:\n\n" +
                 "QUESTION: " + questionText + "\n\n" +
-                "CANDIDATE ANSWER: " + answerText + "\n\n" +
+                "CANDIDATE ANSWER: " + promptBudgeter.fitAnswer(AiRequestType.ANSWER_FEEDBACK, answerText) + "\n\n" +
                 "TASK: Analyze the answer and provide feedback in the following EXACT JSON format:\n" +
                 "{\n" +
                 "  \"score\": 8.0,\n" +
@@ -147,23 +293,69 @@ public class AiService {
                 "- 5-6: Average, basic understanding but needs depth\n" +
                 "- 3-4: Poor, incomplete or vague\n" +
                 "- 1-2: Very poor, irrelevant or no meaningful content";
+    }
 
+    private String buildBatchFeedbackPrompt(List<String> questions, List<String> answers) {
+        StringBuilder qaPairs = new StringBuilder();
+        for (int i = 0; i < questions.size(); i++) {
+            qaPairs.append("RESPONSE ").append(i).append(":\n")
+                    .append("QUESTION: ").append(questions.get(i)).append("\n")
+                    .append("CANDIDATE ANSWER: ").append(promptBudgeter.fitAnswer(AiRequestType.BATCH_FEEDBACK, answers.get(i))).append("\n---\n");
+        }
 
-        return callGeminiAPI(prompt);
+        return "ROLE: Expert Interview Coach\n\n" +
+                "EVALUATE EACH OF THESE INDEPENDENT INTERVIEW RESPONSES:\n\n" +
+                qaPairs + "\n" +
+                "TASK: Analyze every answer on its own and return a JSON array with exactly " + questions.size() +
+                " objects, one per response, in the following EXACT format:\n" +
+                "[\n" +
+                "  {\n" +
+                "    \"index\": 0,\n" +
+                "    \"score\": 8.0,\n" +
+                "    \"feedback\": \"Brief feedback statement\",\n" +
+                "    \"strengths\": \"Strength1, strength2\",\n" +
+                "    \"improvements\": \"Improvement1, improvement2\"\n" +
+                "  }\n" +
+                "]\n\n" +
+                "CRITICAL INSTRUCTIONS:\n" +
+                "1. \"index\" must match the RESPONSE number being evaluated\n" +
+                "2. Return ONLY the JSON array\n" +
+                "3. No code blocks, explanations or comments\n\n" +
+                "SCORING GUIDE:\n" +
+                "- 9-10: Exceptional, comprehensive answer with specific examples\n" +
+                "- 7-8: Good answer with solid understanding\n" +
+                "- 5-6: Average, basic understanding but needs depth\n" +
+                "- 3-4: Poor, incomplete or vague\n" +
+                "- 1-2: Very poor, irrelevant or no meaningful content";
     }
 
-    public String generateOverallFeedback(List<String> allAnswers, List<String> allQuestions) {
+    private String buildOverallFeedbackPrompt(List<String> allAnswers, List<String> allQuestions) {
+        List<String> answers = promptBudgeter.fitTranscript(allAnswers);
         StringBuilder qaPairs = new StringBuilder();
         for (int i = 0; i < allQuestions.size(); i++) {
             qaPairs.append("QUESTION ").append(i + 1).append(": ").append(allQuestions.get(i))
-                    .append("\nANSWER ").append(i + 1).append(": ").append(allAnswers.get(i))
+                    .append("\nANSWER ").append(i + 1).append(": ").append(answers.get(i))
                     .append("\n---\n");
         }
 
-        String prompt = "ROLE: Senior Hiring Manager\n\n" +
+        return "ROLE: Senior Hiring Manager\n\n" +
                 "COMPREHENSIVE INTERVIEW PERFORMANCE ANALYSIS\n\n" +
                 "INTERVIEW TRANSCRIPT:\n" + qaPairs.toString() + "\n\n" +
-                "PERFORMANCE ANALYSIS FRAMEWORK:\n" +
+                overallReportInstructions();
+    }
+
+    private String buildSummaryReportPrompt(String competencySummary) {
+        return "ROLE: Senior Hiring Manager\n\n" +
+                "COMPREHENSIVE INTERVIEW PERFORMANCE ANALYSIS\n\n" +
+                "PER-COMPETENCY SUMMARY OF THE INTERVIEW:\n" +
+                "(aggregated from the evaluation of each answer; scores are out of 10, " +
+                "(xN) is how many answers the remark applied to)\n\n" +
+                competencySummary + "\n" +
+                overallReportInstructions();
+    }
+
+    private String overallReportInstructions() {
+        return "PERFORMANCE ANALYSIS FRAMEWORK:\n" +
                 "A. TECHNICAL COMPETENCE (40%)\n" +
                 "   - Depth of technical knowledge\n" +
                 "   - Problem-solving approach\n" +
@@ -204,84 +396,148 @@ public class AiService {
                 "3. [Priority recommendation 3]\n\n" +
                 "## 📊 Hiring Recommendation\n" +
                 "[Strong Hire / Hire / No Hire] - [Justification]";
+    }
 
+    /**
+     * Queues the provider call on the AI scheduler instead of running it on the
+     * caller's thread. Identical prompts already in flight share the outstanding
+     * call. Slow calls are hedged by {@link AiCallGuard}; when the circuit breaker
+     * is open, the queue is full or the provider keeps failing, the future
+     * completes with an {@link AiServiceUnavailableException}.
+     */
+    private CompletableFuture<String> callAiAsync(String prompt, AiRequestType type) {
+        long tokens = PromptBudgeter.estimateTokens(prompt);
+        return inFlightCalls.execute(HashUtils.sha256Hex(prompt),
+                () -> guarded(type, tokens, () -> aiCallGuard.execute(type, tokens, () -> aiProvider.generate(type, prompt))));
+    }
 
-        return callGeminiAPI(prompt);
+    private String callAi(String prompt, AiRequestType type) {
+        try {
+            return callAiAsync(prompt, type).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
     }
 
-    private String callGeminiAPI(String prompt) {
+    private CompletableFuture<String> guarded(AiRequestType type, long tokens, Supplier<String> call) {
+        if (!aiCallGuard.tryAcquire()) {
+            return CompletableFuture.failedFuture(
+                    new AiServiceUnavailableException("AI circuit breaker is open, rejecting " + type + " request"));
+        }
+
+        return aiRequestScheduler.submit(type, tokens, call).handle((text, error) -> {
+            if (error == null) {
+                aiCallGuard.onSuccess();
+                return text;
+            }
+
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof RejectedExecutionException || cause instanceof HttpClientErrorException.TooManyRequests) {
+                // local overload or quota, not a sign that the provider is unhealthy
+                aiCallGuard.release();
+            } else {
+                aiCallGuard.onFailure();
+            }
+            log.warn("{} request failed: {}", type, cause.toString());
+            throw cause instanceof AiServiceUnavailableException unavailable
+                    ? unavailable
+                    : new AiServiceUnavailableException(type + " request failed: " + cause.getMessage(), cause);
+        });
+    }
+
+    /**
+     * Streams the overall report from the provider, handing each text fragment to
+     * onChunk as it arrives. The stream runs on an AI scheduler worker; the future
+     * completes with the concatenated report.
+     */
+    public CompletableFuture<String> streamOverallFeedback(List<String> allAnswers, List<String> allQuestions, Consumer<String> onChunk) {
+        return streamReport(buildOverallFeedbackPrompt(allAnswers, allQuestions), onChunk);
+    }
+
+    public CompletableFuture<String> streamOverallFeedbackFromSummary(String competencySummary, Consumer<String> onChunk) {
+        return streamReport(buildSummaryReportPrompt(competencySummary), onChunk);
+    }
+
+    private CompletableFuture<String> streamReport(String prompt, Consumer<String> onChunk) {
+        return guarded(AiRequestType.OVERALL_REPORT, PromptBudgeter.estimateTokens(prompt), () -> aiProvider.stream(AiRequestType.OVERALL_REPORT, prompt, onChunk));
+    }
+
+    public FeedbackResponse parseFeedback(String feedbackJson) {
         try {
-            String url = "https://generativelanguage.googleapis.com/v1beta/models/gemini-2.0-flash:generateContent?key=" + apiKey;
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            
-            Map<String, Object> requestBody = new HashMap<>();
-            Map<String, Object> content = new HashMap<>();
-            Map<String, Object> part = new HashMap<>();
-            part.put("text", prompt);
-            content.put("parts", List.of(part));
-            requestBody.put("contents", List.of(content));
-            
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
-            
-            // Parse the response to extract the generated text
-            Map<String, Object> responseBody = response.getBody();
-            if (responseBody != null && responseBody.containsKey("candidates")) {
-                List<Map<String, Object>> candidates = (List<Map<String, Object>>) responseBody.get("candidates");
-                if (!candidates.isEmpty()) {
-                    Map<String, Object> candidate = candidates.get(0);
-                    Map<String, Object> content2 = (Map<String, Object>) candidate.get("content");
-                    List<Map<String, Object>> parts = (List<Map<String, Object>>) content2.get("parts");
-                    if (!parts.isEmpty()) {
-                        return (String) parts.get(0).get("text");
-                    }
+            return feedbackReader.readValue(JsonText.stripCodeFences(feedbackJson));
+        } catch (Exception e) {
+            log.error(e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Demultiplexes a batch feedback response. The returned list has one slot per
+     * requested pair; slots the model skipped, mangled or sent without a score or
+     * feedback are left null.
+     */
+    public List<FeedbackResponse> parseBatchFeedback(String batchJson, int expected) throws IOException {
+        String cleaned = JsonText.stripCodeFences(batchJson);
+        if (!cleaned.startsWith("[")) {
+            throw new IOException("Batch feedback response is not a JSON array");
+        }
+
+        List<FeedbackResponse> results = new ArrayList<>(Collections.nCopies(expected, null));
+        try (MappingIterator<BatchFeedbackItem> items = batchFeedbackReader.readValues(cleaned)) {
+            for (int i = 0; items.hasNextValue(); i++) {
+                BatchFeedbackItem item = items.nextValue();
+                if (item == null || !item.isComplete()) {
+                    // a missing score would otherwise read as 0; leave the slot for the fallback
+                    continue;
+                }
+                int index = item.index() != null ? item.index() : i;
+                if (index >= 0 && index < expected && results.get(index) == null) {
+                    results.set(index, item.toFeedback());
                 }
             }
-            
-            return "AI service temporarily unavailable. Please try again later.";
-        } catch (Exception e) {
-            e.printStackTrace();
-            return "AI service temporarily unavailable. Please try again later.";
         }
+        return results;
     }
 
     private List<Question> parseQuestionsFromJson(String jsonResponse, Resume resume) {
         try {
-            // 🧹 Remove markdown formatting (```json ... ```)
-            String cleaned = jsonResponse
-                    .replaceAll("```json", "")
-                    .replaceAll("```", "")
-                    .trim();
-
-            ObjectMapper mapper = new ObjectMapper();
-
-            // ✅ Use TypeReference to parse JSON array into List<QuestionResponseDto>
-            List<QuestionResponseDto> feedback = mapper.readValue(
-                    cleaned,
-                    new com.fasterxml.jackson.core.type.TypeReference<List<QuestionResponseDto>>() {}
-            );
-
-            System.out.println("Parsed Feedback: " + feedback);
+            List<QuestionResponseDto> parsed = questionsReader.readValue(JsonText.stripCodeFences(jsonResponse));
+            log.debug("Parsed {} questions", parsed.size());
 
             // ✅ Convert DTOs to Entity
             List<Question> questions = new ArrayList<>();
-            for (QuestionResponseDto q : feedback) {
-                questions.add(new Question(
+            for (QuestionResponseDto q : parsed) {
+                Question question = new Question(
                         q.getQuestionText(),
                         q.getQuestionType(),
                         q.getDifficultyLevel(),
                         resume
-                ));
+                );
+                question.setTargetSkill(q.getTargetSkill());
+                questions.add(question);
             }
 
             return questions;
 
         } catch (Exception e) {
             log.error("Error parsing JSON feedback: ", e);
-           // safer than null
         }
-        return null;
+        // safer than null
+        return new ArrayList<>();
+    }
+
+    private record BatchFeedbackItem(Integer index, Double score, String feedback, String strengths, String improvements) {
+        boolean isComplete() {
+            return score != null && feedback != null && !feedback.isBlank();
+        }
+
+        FeedbackResponse toFeedback() {
+            FeedbackResponse response = new FeedbackResponse();
+            response.setScore(score);
+            response.setFeedback(feedback);
+            response.setStrengths(strengths);
+            response.setImprovements(improvements);
+            return response;
+        }
     }
 }
@@ -0,0 +1,198 @@
+package com.interviewiq.service;
+
+import com.interviewiq.dto.FeedbackResponse;
+import com.interviewiq.entity.Question;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Rule-based fast path that runs before the AI feedback call. Answers that are
+ * clearly trivial (empty, "I don't know", a word or two, or a copy of the question)
+ * get a low score and canned feedback locally. Each rule yields a confidence that
+ * the answer is trivial; mentioning the question's target skill lowers it, and
+ * only answers at or above the configured threshold skip the model.
+ */
+@Service
+public class AnswerPreScorer {
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "about", "above", "after", "again", "all", "am", "an", "and", "any", "are", "as", "at",
+            "be", "because", "been", "before", "being", "but", "by", "can", "could", "did", "do", "does",
+            "doing", "dont", "for", "from", "had", "has", "have", "having", "he", "her", "here", "him",
+            "his", "how", "i", "if", "im", "in", "into", "is", "it", "its", "just", "know", "like", "me",
+            "more", "most", "my", "no", "not", "now", "of", "on", "or", "other", "our", "out", "own",
+            "really", "same", "she", "should", "so", "some", "such", "sure", "than", "that", "the",
+            "their", "them", "then", "there", "these", "they", "think", "this", "those", "to", "too",
+            "um", "uh", "up", "very", "was", "we", "well", "were", "what", "when", "where", "which",
+            "while", "who", "why", "will", "with", "would", "yeah", "yes", "you", "your");
+
+    private static final List<String> NON_ANSWERS = List.of(
+            "i dont know", "i do not know", "idk", "no idea", "not sure", "no clue", "pass", "skip",
+            "n a", "na", "none", "nothing", "i have no idea", "i am not sure", "im not sure");
+
+    // Only phrases that cannot be part of a real answer; single words like "pass"
+    // or "none" can ("Always pass by value", "None, it is stateless")
+    private static final List<String> DONT_KNOW_PHRASES = List.of(
+            "i dont know", "i do not know", "no idea", "no clue", "i have no idea", "i am not sure", "im not sure");
+
+    enum Reason {
+        EMPTY(1.0, "No answer was given.",
+                "Answer every question, even briefly; outline how you would approach the problem"),
+        NON_ANSWER(1.0, "The answer says the candidate does not know.",
+                "Talk through what you do know and how you would find the rest"),
+        TOO_SHORT(1.5, "The answer is too short to evaluate.",
+                "Expand with specifics, an example from your experience and the reasoning behind it"),
+        COPIES_QUESTION(1.0, "The answer repeats the question without answering it.",
+                "Answer in your own words and add concrete details"),
+        LOW_CONTENT(2.0, "The answer contains almost no substantive content.",
+                "Focus on concrete technical details, decisions and outcomes");
+
+        private final double score;
+        private final String feedback;
+        private final String improvements;
+
+        Reason(double score, String feedback, String improvements) {
+            this.score = score;
+            this.feedback = feedback;
+            this.improvements = improvements;
+        }
+    }
+
+    @Value("${interviewiq.ai.prescorer.enabled:true}")
+    private boolean enabled;
+
+    @Value("${interviewiq.ai.prescorer.confidence-threshold:0.85}")
+    private double confidenceThreshold;
+
+    @Value("${interviewiq.ai.prescorer.min-content-words:3}")
+    private int minContentWords;
+
+    private final Map<Reason, Counter> savedCalls = new EnumMap<>(Reason.class);
+
+    public AnswerPreScorer(MeterRegistry meterRegistry) {
+        for (Reason reason : Reason.values()) {
+            savedCalls.put(reason, Counter.builder("interviewiq.ai.prescorer.saved")
+                    .description("AI feedback calls skipped because the answer was scored locally")
+                    .tag("reason", reason.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * @return canned feedback when the answer is confidently trivial, otherwise empty
+     * and the answer should go to the model
+     */
+    public Optional<FeedbackResponse> preScore(Question question, String answerText) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        List<String> words = words(answerText);
+        Reason reason;
+        double confidence;
+
+        if (words.isEmpty()) {
+            reason = Reason.EMPTY;
+            confidence = 1.0;
+        } else if (NON_ANSWERS.contains(String.join(" ", words))) {
+            reason = Reason.NON_ANSWER;
+            confidence = 1.0;
+        } else {
+            List<String> content = words.stream().filter(word -> !STOPWORDS.contains(word)).toList();
+            double stopwordRatio = 1.0 - (double) content.size() / words.size();
+            Set<String> questionWords = new HashSet<>(words(question.getQuestionText()));
+            List<String> novel = content.stream().filter(word -> !questionWords.contains(word)).toList();
+
+            if (isMostlyDontKnow(words)) {
+                reason = Reason.NON_ANSWER;
+                confidence = 0.9;
+            } else if (content.size() < minContentWords) {
+                reason = Reason.TOO_SHORT;
+                // two content words ("binary search", "mutex lock") can be a terse but
+                // correct answer, so only 0 or 1 are confident enough to score locally
+                confidence = content.size() <= 1 ? 0.95 : 0.6;
+            } else if (novel.size() <= 1) {
+                reason = Reason.COPIES_QUESTION;
+                confidence = 0.9;
+            } else if (words.size() < 20 && stopwordRatio > 0.8) {
+                reason = Reason.LOW_CONTENT;
+                confidence = 0.7 + (stopwordRatio - 0.8);
+            } else {
+                return Optional.empty();
+            }
+
+            // naming the skill under test may be a terse but real answer, unless the
+            // words were only copied from the question
+            if (mentionsTargetSkill(question, novel)) {
+                confidence -= 0.3;
+            }
+        }
+
+        if (confidence < confidenceThreshold) {
+            return Optional.empty();
+        }
+        savedCalls.get(reason).increment();
+        return Optional.of(cannedFeedback(reason));
+    }
+
+    /**
+     * Whether a "don't know" phrase makes up at least half of the answer, e.g.
+     * "Sorry, no idea" but not "No idea about the API, but a heap would work".
+     */
+    private static boolean isMostlyDontKnow(List<String> words) {
+        String padded = " " + String.join(" ", words) + " ";
+        return DONT_KNOW_PHRASES.stream().anyMatch(phrase -> padded.contains(" " + phrase + " ")
+                && phrase.split(" ").length * 2 >= words.size());
+    }
+
+    private static boolean mentionsTargetSkill(Question question, List<String> contentWords) {
+        if (question.getTargetSkill() == null) {
+            return false;
+        }
+        Set<String> keywords = new HashSet<>(words(question.getTargetSkill()));
+        keywords.removeAll(STOPWORDS);
+        return contentWords.stream().anyMatch(keywords::contains);
+    }
+
+    private static FeedbackResponse cannedFeedback(Reason reason) {
+        FeedbackResponse response = new FeedbackResponse();
+        response.setScore(reason.score);
+        response.setFeedback(reason.feedback);
+        response.setStrengths("");
+        response.setImprovements(reason.improvements);
+        return response;
+    }
+
+    /**
+     * Lower-cased words with punctuation removed, e.g. "I don't know." becomes
+     * [i, dont, know].
+     */
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                word.append(Character.toLowerCase(c));
+            } else if (c != '\'' && c != '’' && word.length() > 0) {
+                // apostrophes are dropped so contractions stay one word
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,237 @@
+package com.interviewiq.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewiq.dto.CompetencySummary;
+import com.interviewiq.dto.FeedbackResponse;
+import com.interviewiq.entity.Answer;
+import com.interviewiq.entity.Question;
+import com.interviewiq.repository.InterviewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Map-reduce support for the overall report. Each scored answer's feedback is
+ * folded into a bounded {@link CompetencySummary} stored on the interview as it
+ * arrives, so ending the interview only needs a small final reduce prompt instead
+ * of the whole transcript. Updates to one interview are serialised with a striped
+ * lock; the summary is stored through a targeted update so regular interview
+ * saves never overwrite it.
+ */
+@Slf4j
+@Service
+public class CompetencySummarizer {
+
+    private static final int MAX_PHRASES = 8;
+
+    private static final int MAX_PHRASE_LENGTH = 80;
+
+    private static final int MAX_HIGHLIGHT_LENGTH = 300;
+
+    private static final String DEFAULT_COMPETENCY = "GENERAL";
+
+    @Autowired
+    private InterviewRepository interviewRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final Lock[] locks = new Lock[64];
+
+    public CompetencySummarizer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Folds one scored answer into the interview's running summary.
+     */
+    public void recordAnswer(Long interviewId, Question question, FeedbackResponse feedback) {
+        if (feedback == null) {
+            return;
+        }
+        Lock lock = lockFor(interviewId);
+        lock.lock();
+        try {
+            CompetencySummary summary = load(interviewId);
+            fold(summary, question, feedback.getScore(), feedback.getFeedback(),
+                    feedback.getStrengths(), feedback.getImprovements());
+            store(interviewId, summary);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the running summary, rebuilding it from the stored answers when it
+     * does not cover every scored answer (e.g. interviews started before
+     * incremental summaries, or answers scored while the mode was off).
+     */
+    public CompetencySummary summarize(Long interviewId, List<Answer> answers) {
+        List<Answer> scored = answers.stream().filter(answer -> answer.getScore() != null).toList();
+
+        Lock lock = lockFor(interviewId);
+        lock.lock();
+        try {
+            CompetencySummary summary = load(interviewId);
+            if (summary.getAnswerCount() == scored.size()) {
+                return summary;
+            }
+
+            log.debug("Rebuilding competency summary for interview {} ({} of {} answers covered)",
+                    interviewId, summary.getAnswerCount(), scored.size());
+            summary = new CompetencySummary();
+            for (Answer answer : scored) {
+                fold(summary, answer.getQuestion(), answer.getScore(), answer.getFeedback(),
+                        answer.getStrengths(), answer.getImprovements());
+            }
+            store(interviewId, summary);
+            return summary;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Renders the summary as compact text for the final reduce prompt.
+     */
+    public String render(CompetencySummary summary, int totalAnswers) {
+        StringBuilder text = new StringBuilder();
+        text.append("Answers given: ").append(totalAnswers)
+                .append(", scored: ").append(summary.getAnswerCount()).append("\n\n");
+
+        for (Map.Entry<String, CompetencySummary.Competency> entry : summary.getCompetencies().entrySet()) {
+            CompetencySummary.Competency competency = entry.getValue();
+            text.append(entry.getKey()).append(": ").append(competency.getAnswers()).append(" answers, average ")
+                    .append(String.format("%.1f", competency.getScoreTotal() / competency.getAnswers())).append("/10\n");
+            appendPhrases(text, "Recurring strengths", competency.getStrengths());
+            appendPhrases(text, "Recurring improvements", competency.getImprovements());
+            appendHighlight(text, "Strongest answer", competency.getBest());
+            if (competency.getAnswers() > 1) {
+                appendHighlight(text, "Weakest answer", competency.getWorst());
+            }
+            text.append("\n");
+        }
+        return text.toString();
+    }
+
+    private void fold(CompetencySummary summary, Question question, double score, String feedback,
+                      String strengths, String improvements) {
+        String type = question != null && question.getQuestionType() != null && !question.getQuestionType().isBlank()
+                ? question.getQuestionType().trim().toUpperCase()
+                : DEFAULT_COMPETENCY;
+        CompetencySummary.Competency competency =
+                summary.getCompetencies().computeIfAbsent(type, key -> new CompetencySummary.Competency());
+
+        competency.setAnswers(competency.getAnswers() + 1);
+        competency.setScoreTotal(competency.getScoreTotal() + score);
+        addPhrases(competency.getStrengths(), strengths);
+        addPhrases(competency.getImprovements(), improvements);
+
+        if (competency.getBest() == null || score > competency.getBest().getScore()) {
+            competency.setBest(highlight(score, question, feedback));
+        }
+        if (competency.getWorst() == null || score < competency.getWorst().getScore()) {
+            competency.setWorst(highlight(score, question, feedback));
+        }
+        summary.setAnswerCount(summary.getAnswerCount() + 1);
+    }
+
+    /**
+     * Counts comma-separated phrases case-insensitively. Once MAX_PHRASES distinct
+     * phrases are tracked, the least frequent one is evicted to make room.
+     */
+    private static void addPhrases(Map<String, Integer> counts, String phrases) {
+        if (phrases == null) {
+            return;
+        }
+        for (String raw : phrases.split("[,;\\n]")) {
+            String phrase = clip(raw.trim(), MAX_PHRASE_LENGTH);
+            if (phrase.isEmpty()) {
+                continue;
+            }
+            String existing = counts.keySet().stream()
+                    .filter(key -> key.equalsIgnoreCase(phrase))
+                    .findFirst()
+                    .orElse(null);
+            if (existing != null) {
+                counts.merge(existing, 1, Integer::sum);
+                continue;
+            }
+            if (counts.size() >= MAX_PHRASES) {
+                counts.entrySet().stream()
+                        .min(Map.Entry.comparingByValue())
+                        .ifPresent(least -> counts.remove(least.getKey()));
+            }
+            counts.put(phrase, 1);
+        }
+    }
+
+    private static CompetencySummary.Highlight highlight(double score, Question question, String feedback) {
+        CompetencySummary.Highlight highlight = new CompetencySummary.Highlight();
+        highlight.setScore(score);
+        highlight.setQuestion(question != null ? clip(question.getQuestionText(), MAX_HIGHLIGHT_LENGTH) : null);
+        highlight.setFeedback(clip(feedback, MAX_HIGHLIGHT_LENGTH));
+        return highlight;
+    }
+
+    private static void appendPhrases(StringBuilder text, String label, Map<String, Integer> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        text.append("- ").append(label).append(": ");
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .forEach(entry -> text.append(entry.getKey()).append(" (x").append(entry.getValue()).append("); "));
+        text.setLength(text.length() - 2);
+        text.append("\n");
+    }
+
+    private static void appendHighlight(StringBuilder text, String label, CompetencySummary.Highlight highlight) {
+        if (highlight == null) {
+            return;
+        }
+        text.append("- ").append(label).append(" (").append(highlight.getScore()).append("/10): ")
+                .append(highlight.getQuestion()).append(" -> ").append(highlight.getFeedback()).append("\n");
+    }
+
+    private static String clip(String text, int maxLength) {
+        if (text == null) {
+            return "";
+        }
+        return text.length() <= maxLength ? text : text.substring(0, maxLength) + "...";
+    }
+
+    private CompetencySummary load(Long interviewId) {
+        String json = interviewRepository.findCompetencySummaryById(interviewId);
+        if (json == null) {
+            return new CompetencySummary();
+        }
+        try {
+            return objectMapper.readValue(json, CompetencySummary.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Discarding unreadable competency summary for interview {}: {}", interviewId, e.getMessage());
+            return new CompetencySummary();
+        }
+    }
+
+    private void store(Long interviewId, CompetencySummary summary) {
+        try {
+            interviewRepository.updateCompetencySummary(interviewId, objectMapper.writeValueAsString(summary));
+        } catch (JsonProcessingException e) {
+            log.error("Could not store competency summary for interview {}", interviewId, e);
+        }
+    }
+
+    private Lock lockFor(Long interviewId) {
+        return locks[Math.floorMod(interviewId.hashCode(), locks.length)];
+    }
+}
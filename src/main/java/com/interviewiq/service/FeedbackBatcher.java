@@ -0,0 +1,177 @@
+package com.interviewiq.service;
+
+import com.interviewiq.dto.FeedbackResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects pending (question, answer) pairs from any interview for a short window
+ * and scores them with a single Gemini prompt. A batch is sent as soon as it
+ * reaches maxBatchSize or when maxWait has passed since its first entry. Pairs the
+ * batch response does not cover fall back to individual generateFeedback calls; if
+ * the batch call itself fails, every pair fails with it.
+ */
+@Slf4j
+@Service
+public class FeedbackBatcher {
+
+    @Autowired
+    private AiService aiService;
+
+    @Value("${interviewiq.ai.feedback.batch.enabled:false}")
+    private boolean enabled;
+
+    @Value("${interviewiq.ai.feedback.batch.max-size:8}")
+    private int maxBatchSize;
+
+    @Value("${interviewiq.ai.feedback.batch.max-wait:250ms}")
+    private Duration maxWait;
+
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "feedback-batcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object lock = new Object();
+
+    private List<PendingFeedback> pending = new ArrayList<>();
+
+    private ScheduledFuture<?> scheduledFlush;
+
+    private final DistributionSummary batchSizes;
+
+    private final Counter fallbacks;
+
+    public FeedbackBatcher(MeterRegistry meterRegistry) {
+        this.batchSizes = DistributionSummary.builder("interviewiq.ai.feedback.batch.size")
+                .description("Answers scored per Gemini feedback prompt")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("interviewiq.ai.feedback.batch.fallbacks")
+                .description("Answers re-scored individually after a batch response could not be used")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public CompletableFuture<FeedbackResponse> submit(String questionText, String answerText) {
+        PendingFeedback request = new PendingFeedback(questionText, answerText);
+        List<PendingFeedback> ready = null;
+
+        synchronized (lock) {
+            pending.add(request);
+            if (pending.size() >= maxBatchSize) {
+                ready = drain();
+            } else if (pending.size() == 1) {
+                scheduledFlush = timer.schedule(this::flush, maxWait.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (ready != null) {
+            dispatch(ready);
+        }
+        return request.result;
+    }
+
+    private void flush() {
+        List<PendingFeedback> ready;
+        synchronized (lock) {
+            ready = drain();
+        }
+        if (!ready.isEmpty()) {
+            dispatch(ready);
+        }
+    }
+
+    private List<PendingFeedback> drain() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        List<PendingFeedback> ready = pending;
+        pending = new ArrayList<>();
+        return ready;
+    }
+
+    private void dispatch(List<PendingFeedback> batch) {
+        batchSizes.record(batch.size());
+
+        if (batch.size() == 1) {
+            scoreIndividually(batch.get(0));
+            return;
+        }
+
+        List<String> questions = batch.stream().map(PendingFeedback::questionText).toList();
+        List<String> answers = batch.stream().map(PendingFeedback::answerText).toList();
+
+        aiService.generateBatchFeedbackAsync(questions, answers).whenComplete((batchJson, error) -> {
+            if (error != null) {
+                // the provider is failing (circuit open, timeout, retries used up); one call
+                // per answer would only add load, so the answers fail like single calls do
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                log.warn("Batch feedback call for {} answers failed: {}", batch.size(), cause.toString());
+                batch.forEach(request -> request.result.completeExceptionally(cause));
+                return;
+            }
+
+            List<FeedbackResponse> results = null;
+            try {
+                results = aiService.parseBatchFeedback(batchJson, batch.size());
+            } catch (Exception e) {
+                log.warn("Could not parse batch feedback response, scoring individually: {}", e.getMessage());
+            }
+
+            for (int i = 0; i < batch.size(); i++) {
+                FeedbackResponse feedback = results != null ? results.get(i) : null;
+                if (feedback != null) {
+                    batch.get(i).result.complete(feedback);
+                } else {
+                    fallbacks.increment();
+                    scoreIndividually(batch.get(i));
+                }
+            }
+        });
+    }
+
+    private void scoreIndividually(PendingFeedback request) {
+        aiService.generateFeedbackAsync(request.questionText(), request.answerText())
+                .thenApply(aiService::parseFeedback)
+                .whenComplete((feedback, error) -> {
+                    if (error != null) {
+                        request.result.completeExceptionally(error);
+                    } else {
+                        request.result.complete(feedback);
+                    }
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        timer.shutdown();
+    }
+
+    private record PendingFeedback(String questionText, String answerText, CompletableFuture<FeedbackResponse> result) {
+        PendingFeedback(String questionText, String answerText) {
+            this(questionText, answerText, new CompletableFuture<>());
+        }
+    }
+}
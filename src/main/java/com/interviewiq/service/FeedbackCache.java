@@ -0,0 +1,71 @@
+package com.interviewiq.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.interviewiq.dto.FeedbackResponse;
+import com.interviewiq.entity.Question;
+import com.interviewiq.util.HashUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Caches parsed answer feedback keyed on the question and a normalized form of the
+ * answer, so retries and repeated practice runs cost no tokens. Keys include
+ * AiService.FEEDBACK_PROMPT_VERSION; {@link #invalidateAll()} clears entries
+ * explicitly when the template changes at runtime.
+ */
+@Slf4j
+@Service
+public class FeedbackCache {
+
+    private final Cache<String, FeedbackResponse> cache;
+
+    public FeedbackCache(MeterRegistry meterRegistry,
+                         @Value("${interviewiq.cache.feedback.max-size:10000}") long maxSize,
+                         @Value("${interviewiq.cache.feedback.expire-after-access:24h}") Duration expireAfterAccess) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "interviewiq.feedback");
+    }
+
+    public Optional<FeedbackResponse> get(Question question, String answerText) {
+        return Optional.ofNullable(cache.getIfPresent(keyFor(question, answerText)));
+    }
+
+    public void put(Question question, String answerText, FeedbackResponse feedback) {
+        cache.put(keyFor(question, answerText), feedback);
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public void invalidateAll() {
+        log.info("Invalidating {} cached feedback entries", cache.estimatedSize());
+        cache.invalidateAll();
+    }
+
+    private String keyFor(Question question, String answerText) {
+        String questionKey = question.getId() != null
+                ? "id:" + question.getId()
+                : "text:" + HashUtils.sha256Hex(question.getQuestionText());
+        return HashUtils.sha256Hex(AiService.FEEDBACK_PROMPT_VERSION, questionKey, normalize(answerText));
+    }
+
+    static String normalize(String answerText) {
+        if (answerText == null) {
+            return "";
+        }
+        return answerText.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
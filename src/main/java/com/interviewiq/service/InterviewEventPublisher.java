@@ -0,0 +1,68 @@
+package com.interviewiq.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Pushes interview events (e.g. "answer-scored") to clients subscribed over SSE,
+ * keyed by interview id. Events are not buffered: a client that connects late or
+ * reconnects should reload the interview, then rely on events for what follows.
+ */
+@Slf4j
+@Component
+public class InterviewEventPublisher {
+
+    @Value("${interviewiq.interview.events.timeout:30m}")
+    private Duration subscriptionTimeout;
+
+    private final Map<Long, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribe(Long interviewId) {
+        SseEmitter emitter = new SseEmitter(subscriptionTimeout.toMillis());
+        // add inside compute so a concurrent unsubscribe cannot drop the list we add to
+        subscribers.compute(interviewId, (id, emitters) -> {
+            List<SseEmitter> list = emitters != null ? emitters : new CopyOnWriteArrayList<>();
+            list.add(emitter);
+            return list;
+        });
+
+        Runnable remove = () -> unsubscribe(interviewId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+        return emitter;
+    }
+
+    public void publish(Long interviewId, String event, Object payload) {
+        List<SseEmitter> emitters = subscribers.get(interviewId);
+        if (emitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().name(event).data(payload, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                // client went away
+                log.debug("Dropping event subscriber for interview {}: {}", interviewId, e.toString());
+                unsubscribe(interviewId, emitter);
+            }
+        }
+    }
+
+    private void unsubscribe(Long interviewId, SseEmitter emitter) {
+        subscribers.computeIfPresent(interviewId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -1,48 +1,133 @@
 package com.interviewiq.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewiq.dto.CompetencySummary;
 import com.interviewiq.dto.FeedbackResponse;
 import com.interviewiq.dto.InterviewDto;
+import com.interviewiq.dto.InterviewHistoryPage;
+import com.interviewiq.dto.InterviewStatsDto;
+import com.interviewiq.dto.InterviewSummaryDto;
 import com.interviewiq.dto.QuestionDto;
+import com.interviewiq.dto.SubmitAnswerResponse;
 import com.interviewiq.dto.AnswerDto;
 import com.interviewiq.entity.*;
+import com.interviewiq.exception.AiServiceUnavailableException;
 import com.interviewiq.repository.InterviewRepository;
 import com.interviewiq.repository.QuestionRepository;
+import com.interviewiq.repository.ResumeRepository;
 import com.interviewiq.repository.AnswerRepository;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.tomcat.util.json.JSONParser;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.swing.text.html.Option;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
 public class InterviewService {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
+    // Background scoring bumps the interview's version, so ending it may need to reload and retry
+    private static final int MAX_END_ATTEMPTS = 5;
+
     @Autowired
     private InterviewRepository interviewRepository;
 
     @Autowired
     private QuestionRepository questionRepository;
 
+    @Autowired
+    private ResumeRepository resumeRepository;
+
     @Autowired
     private AnswerRepository answerRepository;
 
     @Autowired
     private AiService aiService;
 
+    @Autowired
+    private FeedbackCache feedbackCache;
+
+    @Autowired
+    private FeedbackBatcher feedbackBatcher;
+
+    @Autowired
+    private CompetencySummarizer competencySummarizer;
+
+    @Autowired
+    private AnswerPreScorer answerPreScorer;
+
+    @Autowired
+    private InterviewEventPublisher interviewEventPublisher;
+
+    // Score answers in the background and push the result over GET /{id}/events
+    @Value("${interviewiq.ai.feedback.async:false}")
+    private boolean asyncScoring;
+
+    // How long the report job waits for answers still being scored
+    @Value("${interviewiq.ai.feedback.scoring-wait:30s}")
+    private Duration scoringWait;
+
+    @Value("${interviewiq.ai.overall-feedback.max-attempts:3}")
+    private int reportMaxAttempts;
+
+    @Value("${interviewiq.ai.overall-feedback.retry-backoff:10s}")
+    private Duration reportRetryBackoff;
+
+    private final Map<Long, ReportJob> reportJobs = new ConcurrentHashMap<>();
+
+    // Runs the short database steps of report jobs and their retries; the AI call
+    // itself runs on the AI scheduler
+    private final ScheduledExecutorService reportExecutor = Executors.newScheduledThreadPool(2, r -> {
+        Thread thread = new Thread(r, "interview-report");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<Long, Set<CompletableFuture<Void>>> pendingScoring = new ConcurrentHashMap<>();
+
+    @Value("${interviewiq.ai.overall-feedback.stream-timeout:180s}")
+    private Duration feedbackStreamTimeout;
+
+    // "full" sends the whole transcript at the end; "incremental" reduces a
+    // competency summary built while the interview runs
+    @Value("${interviewiq.ai.overall-feedback.mode:full}")
+    private String overallFeedbackMode;
+
     public InterviewDto createInterview(Long userId, Long resumeId, String title) {
         User user = new User();
         user.setId(userId);
         
-        Resume resume = new Resume();
-        resume.setId(resumeId);
+        // a proxy rather than a detached stub, which a versioned entity cannot be
+        Resume resume = resumeRepository.getReferenceById(resumeId);
 
         Interview interview = new Interview(title, user, resume);
         Interview savedInterview = interviewRepository.save(interview);
@@ -51,17 +136,41 @@ public class InterviewService {
     }
 
     public InterviewDto startInterview(Long interviewId) {
+        // a targeted update, so an answer scored in the background meanwhile cannot fail it
+        int updated = interviewRepository.updateStarted(interviewId, Interview.InterviewStatus.IN_PROGRESS, LocalDateTime.now());
+        if (updated == 0) {
+            throw new RuntimeException("Interview not found with id: " + interviewId);
+        }
+
         Interview interview = interviewRepository.findById(interviewId)
                 .orElseThrow(() -> new RuntimeException("Interview not found with id: " + interviewId));
-
-        interview.setStatus(Interview.InterviewStatus.IN_PROGRESS);
-        interview.setStartedAt(LocalDateTime.now());
-        
-        Interview savedInterview = interviewRepository.save(interview);
-        return convertToDto(savedInterview);
+        return convertToDto(interview);
     }
 
     public InterviewDto endInterview(Long interviewId) {
+        return endInterview(interviewId, false);
+    }
+
+    /**
+     * Completes the interview without waiting for the overall report, which is
+     * always generated by a background job. streamFeedback is kept for existing
+     * clients: {@link #streamOverallFeedback(Long)} attaches to that job either way.
+     */
+    public InterviewDto endInterview(Long interviewId, boolean streamFeedback) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return completeInterview(interviewId);
+            } catch (ObjectOptimisticLockingFailureException e) {
+                // an answer finished scoring in the background while the interview was saved
+                if (attempt >= MAX_END_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Interview {} changed while ending, retrying (attempt {}/{})", interviewId, attempt, MAX_END_ATTEMPTS);
+            }
+        }
+    }
+
+    private InterviewDto completeInterview(Long interviewId) {
         Interview interview = interviewRepository.findById(interviewId)
                 .orElseThrow(() -> new RuntimeException("Interview not found with id: " + interviewId));
 
@@ -73,33 +182,193 @@ public class InterviewService {
             interview.setTotalDuration((int) duration);
         }
 
-        // Generate overall feedback
+        // Score now if every answer is scored; otherwise the report job sets it
+        // once answers still being scored in the background are done
         List<Answer> answers = answerRepository.findByInterviewIdOrderByAnsweredAtAsc(interviewId);
         if (!answers.isEmpty()) {
-            List<String> answerTexts = answers.stream()
-                    .map(Answer::getAnswerText)
-                    .collect(Collectors.toList());
-            
-            List<String> questionTexts = answers.stream()
-                    .map(answer -> answer.getQuestion().getQuestionText())
-                    .collect(Collectors.toList());
-
-            String overallFeedback = aiService.generateOverallFeedback(answerTexts, questionTexts);
-            interview.setOverallFeedback(overallFeedback);
-            
-            // Calculate overall score
-            double avgScore = answers.stream()
-                    .mapToDouble(answer -> answer.getScore() != null ? answer.getScore() : 0.0)
-                    .average()
-                    .orElse(0.0);
-            interview.setOverallScore(avgScore);
+            if (answers.stream().noneMatch(answer -> answer.getScoringStatus() == Answer.ScoringStatus.PENDING)) {
+                interview.setOverallScore(averageScore(answers));
+            }
+            interview.setReportStatus(Interview.ReportStatus.PENDING);
         }
 
         Interview savedInterview = interviewRepository.save(interview);
+        if (!answers.isEmpty()) {
+            startReportJob(interviewId);
+        }
         return convertToDto(savedInterview);
     }
 
-    public InterviewDto submitAnswer(Long interviewId, Long questionId, String answerText, String audioFilePath, Integer duration) {
+    private double averageScore(List<Answer> answers) {
+        return answers.stream()
+                .mapToDouble(answer -> answer.getScore() != null ? answer.getScore() : 0.0)
+                .average()
+                .orElse(0.0);
+    }
+
+    /**
+     * Starts the report job for the interview unless one is already running, so a
+     * repeated end call, startup recovery and the feedback stream share one job.
+     */
+    private void startReportJob(Long interviewId) {
+        if (reportJobs.putIfAbsent(interviewId, new ReportJob()) == null) {
+            generateReport(interviewId, 1);
+        }
+    }
+
+    /**
+     * Writes the overall report off the request path. Waits for answers still
+     * being scored, refreshes the overall score, then streams the report to any
+     * subscribers of {@link #streamOverallFeedback(Long)} and marks it READY,
+     * retrying with exponential backoff before marking it FAILED. Either outcome
+     * is pushed as a "report-status" event.
+     */
+    private void generateReport(Long interviewId, int attempt) {
+        ReportJob job = reportJobs.get(interviewId);
+        pendingScoringDone(interviewId)
+                .thenComposeAsync(ignored -> {
+                    List<Answer> answers = answerRepository.findWithQuestionByInterviewId(interviewId);
+                    interviewRepository.updateOverallScore(interviewId, averageScore(answers));
+                    return streamOverallFeedback(interviewId, answers, job::chunk);
+                }, reportExecutor)
+                .whenComplete((report, error) -> {
+                    if (error == null) {
+                        interviewRepository.updatePendingReport(interviewId, report, Interview.ReportStatus.READY,
+                                Interview.ReportStatus.PENDING);
+                        finishReportJob(interviewId, job, null);
+                        publishReportStatus(interviewId, Interview.ReportStatus.READY);
+                        return;
+                    }
+                    if (attempt < reportMaxAttempts && !reportExecutor.isShutdown()) {
+                        long backoff = reportRetryBackoff.toMillis() << (attempt - 1);
+                        log.warn("Report for interview {} failed (attempt {}/{}), retrying in {} ms: {}",
+                                interviewId, attempt, reportMaxAttempts, backoff, error.toString());
+                        job.reset();
+                        reportExecutor.schedule(() -> generateReport(interviewId, attempt + 1),
+                                backoff, TimeUnit.MILLISECONDS);
+                        return;
+                    }
+                    log.error("Report for interview {} failed after {} attempts: {}", interviewId, attempt, error.toString());
+                    interviewRepository.updatePendingReport(interviewId, null, Interview.ReportStatus.FAILED,
+                            Interview.ReportStatus.PENDING);
+                    finishReportJob(interviewId, job, error);
+                    publishReportStatus(interviewId, Interview.ReportStatus.FAILED);
+                });
+    }
+
+    private void finishReportJob(Long interviewId, ReportJob job, Throwable error) {
+        reportJobs.remove(interviewId, job);
+        job.finish(error);
+    }
+
+    private void publishReportStatus(Long interviewId, Interview.ReportStatus status) {
+        interviewEventPublisher.publish(interviewId, "report-status",
+                Map.of("interviewId", interviewId, "reportStatus", status));
+    }
+
+    @PreDestroy
+    public void stopReportExecutor() {
+        reportExecutor.shutdownNow();
+    }
+
+    /**
+     * Relays the overall report to the client token by token over SSE. "chunk"
+     * events carry {"text": ...} fragments and a final "done" event follows once
+     * the full report has been saved to Interview.overallFeedback; "reset" means
+     * the text so far is discarded because generation is being retried. The stream
+     * attaches to the interview's report job and never generates on its own. A
+     * report that already exists is replayed as a single chunk.
+     */
+    public SseEmitter streamOverallFeedback(Long interviewId) {
+        SseEmitter emitter = new SseEmitter(feedbackStreamTimeout.toMillis());
+
+        // look for a running job before reading the interview: a job that finishes
+        // in between has already saved its report
+        ReportJob job = reportJobs.get(interviewId);
+        if (job != null && job.subscribe(emitter)) {
+            return emitter;
+        }
+
+        Interview interview = interviewRepository.findById(interviewId)
+                .orElseThrow(() -> new RuntimeException("Interview not found with id: " + interviewId));
+        if (interview.getOverallFeedback() != null) {
+            sendChunk(emitter, interview.getOverallFeedback());
+            completeStream(emitter);
+        } else if (interview.getReportStatus() == Interview.ReportStatus.PENDING) {
+            // not picked up yet, e.g. right after a restart
+            startReportJob(interviewId);
+            ReportJob started = reportJobs.get(interviewId);
+            if (started == null || !started.subscribe(emitter)) {
+                completeStream(emitter);
+            }
+        } else if (interview.getReportStatus() == Interview.ReportStatus.FAILED) {
+            emitter.completeWithError(new AiServiceUnavailableException(
+                    "The report for interview " + interviewId + " could not be generated"));
+        } else {
+            completeStream(emitter);
+        }
+        return emitter;
+    }
+
+    private CompletableFuture<String> streamOverallFeedback(Long interviewId, List<Answer> answers, Consumer<String> onChunk) {
+        String summary = competencySummaryFor(interviewId, answers);
+        if (summary != null) {
+            return aiService.streamOverallFeedbackFromSummary(summary, onChunk);
+        }
+        return aiService.streamOverallFeedback(answerTexts(answers), questionTexts(answers), onChunk);
+    }
+
+    /**
+     * @return the rendered competency summary in incremental mode, or null when the
+     * full transcript should be used (full mode, or no answer could be scored)
+     */
+    private String competencySummaryFor(Long interviewId, List<Answer> answers) {
+        if (!isIncrementalFeedback()) {
+            return null;
+        }
+        CompetencySummary summary = competencySummarizer.summarize(interviewId, answers);
+        return summary.getAnswerCount() > 0 ? competencySummarizer.render(summary, answers.size()) : null;
+    }
+
+    private boolean isIncrementalFeedback() {
+        return "incremental".equalsIgnoreCase(overallFeedbackMode);
+    }
+
+    private List<String> answerTexts(List<Answer> answers) {
+        return answers.stream()
+                .map(Answer::getAnswerText)
+                .collect(Collectors.toList());
+    }
+
+    private List<String> questionTexts(List<Answer> answers) {
+        return answers.stream()
+                .map(answer -> answer.getQuestion().getQuestionText())
+                .collect(Collectors.toList());
+    }
+
+    private void sendChunk(SseEmitter emitter, String text) {
+        try {
+            emitter.send(SseEmitter.event().name("chunk").data(Map.of("text", text), MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            // client went away; abort the upstream stream as well
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void completeStream(SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event().name("done").data(""));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * Saves the answer and returns only it with the interview's new version,
+     * instead of the whole interview.
+     */
+    public SubmitAnswerResponse submitAnswer(Long interviewId, Long questionId, String answerText, String audioFilePath, Integer duration) {
         Interview interview = interviewRepository.findById(interviewId)
                 .orElseThrow(() -> new RuntimeException("Interview not found with id: " + interviewId));
 
@@ -110,24 +379,99 @@ public class InterviewService {
         answer.setAudioFilePath(audioFilePath);
         answer.setDuration(duration);
 
-        // Generate feedback using AI
-        System.out.println(question.getQuestionText()+answerText);
-        String feedbackJson = aiService.generateFeedback(question.getQuestionText(), answerText);
-        System.out.println(feedbackJson);
-        parseAndSetFeedback(answer, feedbackJson);
+        // Score trivial answers locally and reuse the result for identical
+        // resubmissions; otherwise score with AI, in the background in async mode
+        Optional<FeedbackResponse> immediate = answerPreScorer.preScore(question, answerText)
+                .or(() -> feedbackCache.get(question, answerText));
+        FeedbackResponse feedback = null;
+        if (immediate.isPresent() || !asyncScoring) {
+            feedback = immediate.orElseGet(() -> {
+                FeedbackResponse parsed = scoreAnswer(question, answerText);
+                if (parsed != null) {
+                    feedbackCache.put(question, answerText, parsed);
+                }
+                return parsed;
+            });
+            applyFeedback(answer, feedback);
+        } else {
+            answer.setScoringStatus(Answer.ScoringStatus.PENDING);
+        }
 
         Answer savedAnswer = answerRepository.save(answer);
-        
-        // Update interview with the new answer
-        InterviewDto interviewDto = convertToDto(interview);
-        return interviewDto;
+        if (savedAnswer.getScoringStatus() == Answer.ScoringStatus.PENDING) {
+            scoreInBackground(interviewId, savedAnswer, question);
+        } else if (isIncrementalFeedback()) {
+            competencySummarizer.recordAnswer(interviewId, question, feedback);
+        }
+
+        interviewRepository.incrementVersion(interviewId);
+        return new SubmitAnswerResponse(convertAnswerToDto(savedAnswer, question), getInterviewVersion(interviewId));
     }
 
     public List<InterviewDto> getUserInterviews(Long userId) {
         List<Interview> interviews = interviewRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        return interviews.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return convertToDtos(interviews);
+    }
+
+    /**
+     * One page of the user's history, newest first. The cursor is the opaque
+     * nextCursor of the previous page (null for the first page, which also carries
+     * the user's totals).
+     */
+    public InterviewHistoryPage getInterviewHistory(Long userId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+        // one extra row tells whether there is a next page
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<InterviewSummaryDto> interviews;
+        InterviewStatsDto stats = null;
+        if (cursor == null || cursor.isBlank()) {
+            interviews = interviewRepository.findSummariesByUserId(userId, limit);
+            stats = interviewRepository.findStatsByUserId(userId, Interview.InterviewStatus.COMPLETED);
+        } else {
+            HistoryCursor after = HistoryCursor.decode(cursor);
+            interviews = interviewRepository.findSummariesByUserIdBefore(userId, after.createdAt(), after.id(), limit);
+        }
+
+        String nextCursor = null;
+        if (interviews.size() > pageSize) {
+            interviews = new ArrayList<>(interviews.subList(0, pageSize));
+            InterviewSummaryDto last = interviews.get(pageSize - 1);
+            nextCursor = new HistoryCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new InterviewHistoryPage(interviews, nextCursor, stats);
+    }
+
+    private record HistoryCursor(LocalDateTime createdAt, Long id) {
+
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((createdAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        static HistoryCursor decode(String cursor) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+                return new HistoryCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+            } catch (RuntimeException e) {
+                // client input, so a 400 rather than a server error
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid history cursor: " + cursor);
+            }
+        }
+    }
+
+    /**
+     * Strong ETag for GET /api/interviews/{id}, read without building the DTO.
+     * It is read before the DTO, so a concurrent write can only leave it older
+     * than the body, which costs one extra full response rather than a stale 304.
+     */
+    public String getInterviewETag(Long id) {
+        return "\"interview-" + id + "-" + getInterviewVersion(id) + "\"";
+    }
+
+    private Long getInterviewVersion(Long id) {
+        return interviewRepository.findVersionById(id)
+                .orElseThrow(() -> new RuntimeException("Interview not found with id: " + id));
     }
 
     public InterviewDto getInterviewById(Long id) {
@@ -137,47 +481,142 @@ public class InterviewService {
     }
 
     private InterviewDto convertToDto(Interview interview) {
-        InterviewDto dto = new InterviewDto();
-        dto.setId(interview.getId());
-        dto.setTitle(interview.getTitle());
-        dto.setStatus(interview.getStatus());
-        dto.setStartedAt(interview.getStartedAt());
-        dto.setEndedAt(interview.getEndedAt());
-        dto.setTotalDuration(interview.getTotalDuration());
-        dto.setOverallScore(interview.getOverallScore());
-        dto.setOverallFeedback(interview.getOverallFeedback());
-        dto.setCreatedAt(interview.getCreatedAt());
-        dto.setResumeId(interview.getResume().getId());
-
-        // Convert questions
-        if (interview.getResume() != null && interview.getResume().getQuestions() != null) {
-            List<QuestionDto> questionDtos = interview.getResume().getQuestions().stream()
-                    .map(this::convertQuestionToDto)
-                    .collect(Collectors.toList());
-            dto.setQuestions(questionDtos);
-        }
-
-        // Convert answers
-        if (interview.getAnswers() != null) {
-            List<AnswerDto> answerDtos = interview.getAnswers().stream()
-                    .map(this::convertAnswerToDto)
-                    .collect(Collectors.toList());
-            dto.setAnswers(answerDtos);
+        return convertToDtos(List.of(interview)).get(0);
+    }
+
+    /**
+     * Builds the DTOs with one projection query for all questions and one for all
+     * answers, however many interviews there are. Only the resume id is read from
+     * the lazy resume reference, which does not load it.
+     */
+    private List<InterviewDto> convertToDtos(List<Interview> interviews) {
+        if (interviews.isEmpty()) {
+            return new ArrayList<>();
         }
 
-        return dto;
+        Set<Long> resumeIds = interviews.stream()
+                .map(interview -> interview.getResume().getId())
+                .collect(Collectors.toSet());
+        Map<Long, List<QuestionDto>> questionsByResume = questionRepository.findDtosByResumeIdIn(resumeIds).stream()
+                .collect(Collectors.groupingBy(QuestionDto::getResumeId));
+
+        List<Long> interviewIds = interviews.stream().map(Interview::getId).collect(Collectors.toList());
+        Map<Long, List<AnswerDto>> answersByInterview = answerRepository.findDtosByInterviewIdIn(interviewIds).stream()
+                .collect(Collectors.groupingBy(AnswerDto::getInterviewId));
+
+        List<InterviewDto> dtos = new ArrayList<>(interviews.size());
+        for (Interview interview : interviews) {
+            InterviewDto dto = new InterviewDto();
+            dto.setId(interview.getId());
+            dto.setTitle(interview.getTitle());
+            dto.setStatus(interview.getStatus());
+            dto.setStartedAt(interview.getStartedAt());
+            dto.setEndedAt(interview.getEndedAt());
+            dto.setTotalDuration(interview.getTotalDuration());
+            dto.setOverallScore(interview.getOverallScore());
+            dto.setOverallFeedback(interview.getOverallFeedback());
+            dto.setReportStatus(interview.getReportStatus());
+            dto.setVersion(interview.getVersion());
+            dto.setCreatedAt(interview.getCreatedAt());
+            dto.setResumeId(interview.getResume().getId());
+            dto.setQuestions(questionsByResume.getOrDefault(dto.getResumeId(), new ArrayList<>()));
+            dto.setAnswers(answersByInterview.getOrDefault(dto.getId(), new ArrayList<>()));
+            dtos.add(dto);
+        }
+        return dtos;
     }
 
-    private QuestionDto convertQuestionToDto(Question question) {
-        QuestionDto dto = new QuestionDto();
-        dto.setId(question.getId());
-        dto.setQuestionText(question.getQuestionText());
-        dto.setQuestionType(question.getQuestionType());
-        dto.setDifficultyLevel(question.getDifficultyLevel());
-        return dto;
+    /**
+     * @return parsed feedback, or null when the AI could not score the answer; the
+     * answer is then saved without a score rather than with an error message
+     */
+    private FeedbackResponse scoreAnswer(Question question, String answerText) {
+        return scoreAnswerAsync(question, answerText).join();
+    }
+
+    private CompletableFuture<FeedbackResponse> scoreAnswerAsync(Question question, String answerText) {
+        CompletableFuture<FeedbackResponse> feedback = feedbackBatcher.isEnabled()
+                ? feedbackBatcher.submit(question.getQuestionText(), answerText)
+                : aiService.generateFeedbackAsync(question.getQuestionText(), answerText).thenApply(feedbackJson -> {
+                    log.debug("Feedback for question {}: {}", question.getId(), feedbackJson);
+                    return aiService.parseFeedback(feedbackJson);
+                });
+        return feedback.exceptionally(error -> {
+            log.warn("Could not score answer to question {}: {}", question.getId(), error.getMessage());
+            return null;
+        });
     }
 
-    private AnswerDto convertAnswerToDto(Answer answer) {
+    /**
+     * Scores a PENDING answer off the request thread, writes the result with a
+     * targeted update and pushes the scored answer to subscribers as an
+     * "answer-scored" event.
+     */
+    private void scoreInBackground(Long interviewId, Answer answer, Question question) {
+        CompletableFuture<Void> scoring = scoreAnswerAsync(question, answer.getAnswerText())
+                .thenAccept(feedback -> {
+                    if (feedback != null) {
+                        feedbackCache.put(question, answer.getAnswerText(), feedback);
+                    }
+                    applyFeedback(answer, feedback);
+                    answerRepository.updateScoring(answer.getId(), answer.getScore(), answer.getFeedback(),
+                            answer.getStrengths(), answer.getImprovements(), answer.getScoringStatus());
+                    interviewRepository.incrementVersion(interviewId);
+                    if (isIncrementalFeedback()) {
+                        competencySummarizer.recordAnswer(interviewId, question, feedback);
+                    }
+                    interviewEventPublisher.publish(interviewId, "answer-scored", convertAnswerToDto(answer, question));
+                })
+                .exceptionally(error -> {
+                    log.error("Background scoring of answer {} failed: {}", answer.getId(), error.toString());
+                    return null;
+                });
+
+        Set<CompletableFuture<Void>> pending = pendingScoring.computeIfAbsent(interviewId, id -> ConcurrentHashMap.newKeySet());
+        pending.add(scoring);
+        scoring.whenComplete((result, error) -> pending.remove(scoring));
+    }
+
+    /**
+     * Completes once background scoring of the interview's answers has finished,
+     * or after the scoring wait limit, so the score and report can include them.
+     */
+    private CompletableFuture<Void> pendingScoringDone(Long interviewId) {
+        Set<CompletableFuture<Void>> pending = pendingScoring.get(interviewId);
+        if (pending == null || pending.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                .<Void>handle((result, error) -> null)
+                .completeOnTimeout(null, scoringWait.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Re-queues answer scoring and report generation interrupted by a shutdown.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeBackgroundWork() {
+        List<Answer> pending = answerRepository.findWithQuestionByScoringStatus(Answer.ScoringStatus.PENDING);
+        if (!pending.isEmpty()) {
+            log.info("Resuming scoring of {} answers", pending.size());
+            pending.forEach(answer -> scoreInBackground(answer.getInterview().getId(), answer, answer.getQuestion()));
+        }
+
+        List<Long> pendingReports = interviewRepository.findIdsByReportStatus(Interview.ReportStatus.PENDING);
+        if (!pendingReports.isEmpty()) {
+            log.info("Resuming report generation for {} interviews", pendingReports.size());
+            pendingReports.forEach(this::startReportJob);
+        }
+    }
+
+    public SseEmitter subscribeToEvents(Long interviewId) {
+        if (!interviewRepository.existsById(interviewId)) {
+            throw new RuntimeException("Interview not found with id: " + interviewId);
+        }
+        return interviewEventPublisher.subscribe(interviewId);
+    }
+
+    private AnswerDto convertAnswerToDto(Answer answer, Question question) {
         AnswerDto dto = new AnswerDto();
         dto.setId(answer.getId());
         dto.setAnswerText(answer.getAnswerText());
@@ -187,32 +626,89 @@ public class InterviewService {
         dto.setFeedback(answer.getFeedback());
         dto.setStrengths(answer.getStrengths());
         dto.setImprovements(answer.getImprovements());
+        dto.setScoringStatus(answer.getScoringStatus());
         dto.setAnsweredAt(answer.getAnsweredAt());
-        dto.setQuestionId(answer.getQuestion().getId());
-        dto.setQuestionText(answer.getQuestion().getQuestionText());
+        dto.setQuestionId(question.getId());
+        dto.setQuestionText(question.getQuestionText());
         return dto;
     }
 
-    private void parseAndSetFeedback(Answer answer, String feedbackJson) {
-        // This is a simplified implementation
-        // In a real application, you would use a proper JSON parser
-        // For now, we'll set some default values
-        try {
-            String cleaned = feedbackJson
-                    .replaceAll("```json", "")  // remove ```json
-                    .replaceAll("```", "");     // remove closing ```
+    private void applyFeedback(Answer answer, FeedbackResponse feedback) {
+        if (feedback == null) {
+            answer.setScoringStatus(Answer.ScoringStatus.FAILED);
+            return;
+        }
+        answer.setScoringStatus(Answer.ScoringStatus.SCORED);
+        answer.setScore(feedback.getScore());
+        answer.setFeedback(feedback.getFeedback());
+        answer.setStrengths(feedback.getStrengths());
+        answer.setImprovements(feedback.getImprovements());
+    }
 
-            ObjectMapper mapper = new ObjectMapper();
-            FeedbackResponse feedback = mapper.readValue(cleaned, FeedbackResponse.class);
-            answer.setScore(feedback.getScore());
-            answer.setFeedback(feedback.getFeedback());
-            answer.setStrengths(feedback.getStrengths());
-            answer.setImprovements(feedback.getImprovements());
+    /**
+     * A running report generation and the feedback streams attached to it. Late
+     * subscribers first receive the text generated so far.
+     */
+    private final class ReportJob {
+        private final StringBuilder text = new StringBuilder();
+        private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+        private boolean finished;
+
+        synchronized boolean subscribe(SseEmitter emitter) {
+            if (finished) {
+                return false;
+            }
+            if (!text.isEmpty() && !send(emitter, text.toString())) {
+                return true;
+            }
+            subscribers.add(emitter);
+            emitter.onCompletion(() -> subscribers.remove(emitter));
+            emitter.onTimeout(() -> subscribers.remove(emitter));
+            return true;
+        }
+
+        synchronized void chunk(String chunk) {
+            text.append(chunk);
+            subscribers.forEach(emitter -> send(emitter, chunk));
+        }
+
+        synchronized void reset() {
+            text.setLength(0);
+            for (SseEmitter emitter : subscribers) {
+                try {
+                    emitter.send(SseEmitter.event().name("reset").data(""));
+                } catch (IOException e) {
+                    drop(emitter, e);
+                }
+            }
+        }
+
+        synchronized void finish(Throwable error) {
+            finished = true;
+            for (SseEmitter emitter : subscribers) {
+                if (error == null) {
+                    completeStream(emitter);
+                } else {
+                    emitter.completeWithError(error);
+                }
+            }
+            subscribers.clear();
+        }
 
-        }catch(Exception e)
-        {
-            log.error(e.toString());
+        // a client that went away is dropped without affecting the job
+        private boolean send(SseEmitter emitter, String chunk) {
+            try {
+                sendChunk(emitter, chunk);
+                return true;
+            } catch (UncheckedIOException e) {
+                drop(emitter, e.getCause());
+                return false;
+            }
         }
 
+        private void drop(SseEmitter emitter, IOException e) {
+            subscribers.remove(emitter);
+            emitter.completeWithError(e);
+        }
     }
 }
@@ -0,0 +1,93 @@
+package com.interviewiq.service;
+
+import com.interviewiq.entity.Resume;
+import com.interviewiq.repository.ResumeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One-time copy of the legacy resumes.parsed_content column into resume_contents.
+ * Runs on startup before the pipeline recovers unfinished resumes, so a PARSED
+ * resume with legacy content is not parsed again. Only rows without a content row
+ * are copied, which makes reruns no-ops; the legacy column is left in place and can
+ * be dropped once this has run.
+ */
+@Slf4j
+@Component
+public class ResumeContentBackfill {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!hasLegacyColumn()) {
+            return;
+        }
+
+        int copied = 0;
+        long lastId = 0;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT id, parsed_content FROM resumes WHERE content_id IS NULL AND parsed_content IS NOT NULL " +
+                            "AND id > ? ORDER BY id LIMIT " + BATCH_SIZE, lastId);
+            if (rows.isEmpty()) {
+                break;
+            }
+            for (Map<String, Object> row : rows) {
+                lastId = ((Number) row.get("id")).longValue();
+                if (copy(lastId, String.valueOf(row.get("parsed_content")))) {
+                    copied++;
+                }
+            }
+        }
+        if (copied > 0) {
+            log.info("Copied legacy parsed content of {} resumes into resume_contents", copied);
+        }
+    }
+
+    private boolean copy(Long resumeId, String parsedContent) {
+        Resume resume = resumeRepository.findWithContentById(resumeId).orElse(null);
+        if (resume == null || resume.getContent() != null) {
+            return false;
+        }
+        resume.setParsedContent(parsedContent);
+        resumeRepository.save(resume);
+        return true;
+    }
+
+    private boolean hasLegacyColumn() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            // identifier case differs between databases
+            for (String table : new String[] {"resumes", "RESUMES"}) {
+                for (String column : new String[] {"parsed_content", "PARSED_CONTENT"}) {
+                    try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, table, column)) {
+                        if (columns.next()) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }));
+    }
+}
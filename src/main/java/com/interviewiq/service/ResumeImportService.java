@@ -0,0 +1,337 @@
+package com.interviewiq.service;
+
+import com.interviewiq.dto.ResumeImportItemDto;
+import com.interviewiq.dto.ResumeImportStatusDto;
+import com.interviewiq.entity.Resume;
+import com.interviewiq.entity.ResumeImportBatch;
+import com.interviewiq.entity.ResumeImportItem;
+import com.interviewiq.entity.User;
+import com.interviewiq.repository.ResumeImportBatchRepository;
+import com.interviewiq.repository.ResumeImportItemRepository;
+import com.interviewiq.repository.ResumeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Bulk resume import from a zip archive or a multi-file upload. Files are
+ * streamed one at a time into {@link ResumeStorage} while the request is open;
+ * nothing is unpacked to memory or to a scratch directory. The stored resumes are
+ * then handed to the {@link ResumeProcessingPipeline} by a dispatcher that keeps
+ * at most max-in-flight imported resumes in the pipeline, so a large cohort
+ * cannot crowd out interactive uploads or overflow the pipeline queue.
+ */
+@Slf4j
+@Service
+public class ResumeImportService {
+
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            ".pdf", "application/pdf",
+            ".docx", "application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+            ".txt", "text/plain");
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ResumeImportBatchRepository batchRepository;
+
+    @Autowired
+    private ResumeImportItemRepository itemRepository;
+
+    @Autowired
+    private ResumeStorage resumeStorage;
+
+    @Autowired
+    private ResumeProcessingPipeline resumeProcessingPipeline;
+
+    @Value("${interviewiq.resume.import.max-files:1000}")
+    private int maxFiles;
+
+    @Value("${interviewiq.storage.max-file-size:10MB}")
+    private DataSize maxFileSize;
+
+    @Value("${interviewiq.resume.import.max-in-flight:32}")
+    private int maxInFlight;
+
+    @Value("${interviewiq.resume.import.dispatchers:2}")
+    private int dispatchers;
+
+    private final MeterRegistry meterRegistry;
+
+    private Semaphore inFlight;
+
+    private ExecutorService dispatcherPool;
+
+    public ResumeImportService(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        inFlight = new Semaphore(maxInFlight);
+        AtomicInteger threadCount = new AtomicInteger();
+        dispatcherPool = Executors.newFixedThreadPool(dispatchers, r -> {
+            Thread thread = new Thread(r, "resume-import-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("interviewiq.resume.import.inflight", this, service -> maxInFlight - service.inFlight.availablePermits())
+                .description("Imported resumes currently in the processing pipeline")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        // undispatched resumes stay STORED and are re-dispatched on startup
+        dispatcherPool.shutdownNow();
+    }
+
+    /**
+     * Re-dispatches imported resumes that were not finished before a shutdown,
+     * under the same max-in-flight limit as a fresh import.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedImports() {
+        List<Long> unfinished = itemRepository.findResumeIdsByProcessingStatusIn(
+                EnumSet.of(Resume.ProcessingStatus.STORED, Resume.ProcessingStatus.PARSED));
+        if (!unfinished.isEmpty()) {
+            log.info("Resuming dispatch of {} imported resumes", unfinished.size());
+            dispatcherPool.execute(() -> dispatch("Unfinished imports", unfinished));
+        }
+    }
+
+    public ResumeImportStatusDto importArchive(MultipartFile archive, Long userId) {
+        ResumeImportBatch batch = newBatch(archive.getOriginalFilename(), userId);
+        List<ResumeImportItem> items = new ArrayList<>();
+        List<Long> resumeIds = new ArrayList<>();
+
+        try (ZipInputStream zip = new ZipInputStream(new BufferedInputStream(archive.getInputStream()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                String fileName = baseName(entry.getName());
+                if (entry.isDirectory() || fileName.isEmpty() || isMetadata(entry.getName(), fileName)) {
+                    continue;
+                }
+                if (items.size() >= maxFiles) {
+                    batch.setError("Archive has more than " + maxFiles + " files; the rest were not imported");
+                    break;
+                }
+                importFile(batch, fileName, zip, items, resumeIds);
+            }
+        } catch (IOException e) {
+            log.warn("Import batch {}: archive {} could not be read: {}", batch.getId(), archive.getOriginalFilename(), e.toString());
+            batch.setError("Archive could not be read completely: " + e.getMessage());
+        }
+
+        return finish(batch, items, resumeIds);
+    }
+
+    public ResumeImportStatusDto importFiles(List<MultipartFile> files, Long userId) {
+        ResumeImportBatch batch = newBatch(null, userId);
+        List<ResumeImportItem> items = new ArrayList<>();
+        List<Long> resumeIds = new ArrayList<>();
+
+        for (MultipartFile file : files) {
+            if (items.size() >= maxFiles) {
+                batch.setError("Upload has more than " + maxFiles + " files; the rest were not imported");
+                break;
+            }
+            String fileName = baseName(file.getOriginalFilename());
+            try (InputStream content = file.getInputStream()) {
+                importFile(batch, fileName, content, items, resumeIds);
+            } catch (IOException e) {
+                items.add(rejected(batch, fileName, "Could not read file: " + e.getMessage()));
+            }
+        }
+
+        return finish(batch, items, resumeIds);
+    }
+
+    public ResumeImportStatusDto getImportStatus(Long batchId) {
+        ResumeImportBatch batch = batchRepository.findById(batchId)
+                .orElseThrow(() -> new RuntimeException("Import batch not found with id: " + batchId));
+        return toStatusDto(batch, itemRepository.findItemsByBatchId(batchId));
+    }
+
+    private ResumeImportBatch newBatch(String sourceName, Long userId) {
+        User user = new User();
+        user.setId(userId);
+        return batchRepository.save(new ResumeImportBatch(sourceName, user));
+    }
+
+    /**
+     * Stores one file and creates its resume. Entry content is read through a
+     * size-capped view that leaves the archive stream open for the next entry.
+     */
+    private void importFile(ResumeImportBatch batch, String fileName, InputStream content,
+                            List<ResumeImportItem> items, List<Long> resumeIds) {
+        String contentType = CONTENT_TYPES.get(extensionOf(fileName));
+        if (contentType == null) {
+            items.add(rejected(batch, fileName, "Unsupported file type; expected PDF, DOCX or TXT"));
+            return;
+        }
+
+        ResumeStorage.StoredFile stored;
+        try {
+            stored = resumeStorage.store(new CappedInputStream(content, maxFileSize.toBytes()), fileName);
+        } catch (IOException e) {
+            items.add(rejected(batch, fileName, e.getMessage()));
+            return;
+        }
+
+        Resume resume = new Resume(fileName, stored.path().toString(), stored.size(), contentType, batch.getUser());
+        resume.setContentHash(stored.sha256());
+        Resume savedResume = resumeRepository.save(resume);
+        resumeIds.add(savedResume.getId());
+
+        ResumeImportItem item = new ResumeImportItem(batch, fileName, ResumeImportItem.ItemStatus.IMPORTED);
+        item.setResume(savedResume);
+        items.add(item);
+    }
+
+    private ResumeImportStatusDto finish(ResumeImportBatch batch, List<ResumeImportItem> items, List<Long> resumeIds) {
+        batch.setTotalFiles(items.size());
+        batchRepository.save(batch);
+        itemRepository.saveAll(items);
+
+        log.info("Import batch {}: {} of {} files imported", batch.getId(), resumeIds.size(), items.size());
+        dispatcherPool.execute(() -> dispatch("Import batch " + batch.getId(), resumeIds));
+
+        return getImportStatus(batch.getId());
+    }
+
+    /**
+     * Feeds the batch into the pipeline, blocking while max-in-flight imported
+     * resumes are still being processed.
+     */
+    private void dispatch(String source, List<Long> resumeIds) {
+        for (Long resumeId : resumeIds) {
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.info("{}: dispatch interrupted; remaining resumes resume on restart", source);
+                return;
+            }
+            resumeProcessingPipeline.submitTracked(resumeId).whenComplete((status, error) -> inFlight.release());
+        }
+        log.debug("{}: all {} resumes dispatched", source, resumeIds.size());
+    }
+
+    private ResumeImportStatusDto toStatusDto(ResumeImportBatch batch, List<ResumeImportItemDto> items) {
+        ResumeImportStatusDto dto = new ResumeImportStatusDto();
+        dto.setBatchId(batch.getId());
+        dto.setSourceName(batch.getSourceName());
+        dto.setCreatedAt(batch.getCreatedAt());
+        dto.setError(batch.getError());
+        dto.setTotalFiles(items.size());
+        for (ResumeImportItemDto item : items) {
+            switch (item.getStatus()) {
+                case "REJECTED" -> dto.setRejected(dto.getRejected() + 1);
+                case "QUESTIONS_READY" -> dto.setQuestionsReady(dto.getQuestionsReady() + 1);
+                case "FAILED" -> dto.setFailed(dto.getFailed() + 1);
+                default -> dto.setPending(dto.getPending() + 1);
+            }
+        }
+        dto.setCompleted(dto.getPending() == 0);
+        dto.setItems(items);
+        return dto;
+    }
+
+    private static ResumeImportItem rejected(ResumeImportBatch batch, String fileName, String error) {
+        ResumeImportItem item = new ResumeImportItem(batch, fileName, ResumeImportItem.ItemStatus.REJECTED);
+        item.setError(error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+        return item;
+    }
+
+    private static String baseName(String path) {
+        if (path == null) {
+            return "";
+        }
+        String name = path.replace('\\', '/');
+        return name.substring(name.lastIndexOf('/') + 1).trim();
+    }
+
+    // macOS resource forks and dot files that archivers add alongside the real files
+    private static boolean isMetadata(String path, String fileName) {
+        return path.startsWith("__MACOSX/") || fileName.startsWith(".");
+    }
+
+    private static String extensionOf(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot < 0 ? "" : fileName.substring(dot).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Fails once more than maxBytes have been read, which also bounds what a
+     * highly compressed archive entry can expand to. Closing it leaves the
+     * underlying stream open.
+     */
+    private static final class CappedInputStream extends FilterInputStream {
+
+        private final long maxBytes;
+
+        private long read;
+
+        CappedInputStream(InputStream in, long maxBytes) {
+            super(in);
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(int n) throws IOException {
+            read += n;
+            if (read > maxBytes) {
+                throw new IOException("File exceeds the " + DataSize.ofBytes(maxBytes).toMegabytes() + "MB limit");
+            }
+        }
+
+        @Override
+        public void close() {
+            // the caller owns the underlying stream
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.interviewiq.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.interviewiq.entity.ParsedResumeCacheEntry;
+import com.interviewiq.repository.ParsedResumeCacheRepository;
+import com.interviewiq.util.HashUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Content-addressed cache of structured resume JSON. Keys are the SHA-256 of the
+ * parse prompt version and the extracted resume text, so re-uploading the same
+ * document skips Gemini, while a prompt change naturally misses.
+ */
+@Slf4j
+@Service
+public class ResumeParseCache {
+
+    @Autowired
+    private ParsedResumeCacheRepository parsedResumeCacheRepository;
+
+    @Value("${interviewiq.cache.resume-parse.persistent:true}")
+    private boolean persistent;
+
+    private final Duration ttl;
+
+    private final Cache<String, String> cache;
+
+    public ResumeParseCache(@Value("${interviewiq.cache.resume-parse.max-size:1000}") long maxSize,
+                            @Value("${interviewiq.cache.resume-parse.ttl:7d}") Duration ttl) {
+        this.ttl = ttl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<String> get(String resumeText) {
+        String key = keyFor(resumeText);
+
+        String cached = cache.getIfPresent(key);
+        if (cached != null) {
+            log.debug("Resume parse cache hit (memory) for {}", key);
+            return Optional.of(cached);
+        }
+
+        if (!persistent) {
+            return Optional.empty();
+        }
+
+        Optional<ParsedResumeCacheEntry> stored = parsedResumeCacheRepository.findById(key);
+        if (stored.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ParsedResumeCacheEntry entry = stored.get();
+        if (entry.getCreatedAt() != null && entry.getCreatedAt().isBefore(LocalDateTime.now().minus(ttl))) {
+            parsedResumeCacheRepository.delete(entry);
+            return Optional.empty();
+        }
+
+        log.debug("Resume parse cache hit (database) for {}", key);
+        cache.put(key, entry.getParsedContent());
+        return Optional.of(entry.getParsedContent());
+    }
+
+    public void put(String resumeText, String parsedContent) {
+        String key = keyFor(resumeText);
+        cache.put(key, parsedContent);
+
+        if (persistent) {
+            try {
+                parsedResumeCacheRepository.save(
+                        new ParsedResumeCacheEntry(key, AiService.PARSE_RESUME_PROMPT_VERSION, parsedContent));
+            } catch (Exception e) {
+                // a concurrent upload of the same file may have stored it first
+                log.warn("Could not persist resume parse cache entry {}: {}", key, e.getMessage());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${interviewiq.cache.resume-parse.purge-interval:PT1H}")
+    public void purgeExpired() {
+        if (persistent) {
+            long removed = parsedResumeCacheRepository.deleteByCreatedAtBefore(LocalDateTime.now().minus(ttl));
+            if (removed > 0) {
+                log.info("Purged {} expired resume parse cache entries", removed);
+            }
+        }
+    }
+
+    private String keyFor(String resumeText) {
+        return HashUtils.sha256Hex(AiService.PARSE_RESUME_PROMPT_VERSION, resumeText);
+    }
+}
@@ -0,0 +1,431 @@
+package com.interviewiq.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.interviewiq.ai.QuestionCategory;
+import com.interviewiq.entity.Question;
+import com.interviewiq.entity.Resume;
+import com.interviewiq.repository.QuestionRepository;
+import com.interviewiq.repository.ResumeRepository;
+import com.interviewiq.util.JsonSectionScanner;
+import com.interviewiq.util.JsonText;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background pipeline that turns a stored resume into interview questions:
+ * STORED -> PARSED -> QUESTIONS_READY, or FAILED once a stage has used up its
+ * attempts. The status is persisted after every stage, so a job picks up at the
+ * stage it stopped at after a retry or an application restart, and
+ * {@code GET /api/resumes/{id}/status} can report progress.
+ */
+@Slf4j
+@Service
+public class ResumeProcessingPipeline {
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AiService aiService;
+
+    @Autowired
+    private ResumeParseCache resumeParseCache;
+
+    @Autowired
+    private ResumeTextExtractor resumeTextExtractor;
+
+    @Value("${interviewiq.resume.pipeline.workers:4}")
+    private int workers;
+
+    @Value("${interviewiq.resume.pipeline.queue-capacity:500}")
+    private int queueCapacity;
+
+    @Value("${interviewiq.resume.pipeline.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${interviewiq.resume.pipeline.initial-backoff:2s}")
+    private Duration initialBackoff;
+
+    // "single" (one prompt for all questions) or "per-category"
+    @Value("${interviewiq.resume.pipeline.question-mode:single}")
+    private String questionMode;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, CompletableFuture<Resume.ProcessingStatus>> tracked = new ConcurrentHashMap<>();
+
+    private ThreadPoolExecutor workerPool;
+
+    private final ScheduledExecutorService retryTimer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "resume-pipeline-retry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ResumeProcessingPipeline(MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadCount = new AtomicInteger();
+        workerPool = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread thread = new Thread(r, "resume-pipeline-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        Gauge.builder("interviewiq.resume.pipeline.queue.depth", workerPool, pool -> pool.getQueue().size())
+                .description("Resumes waiting for a pipeline worker")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        retryTimer.shutdownNow();
+        workerPool.shutdownNow();
+    }
+
+    /**
+     * Re-queues uploaded resumes whose processing was interrupted by a shutdown.
+     * Bulk-imported ones go back through ResumeImportService's throttled dispatcher.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        List<Long> unfinished = resumeRepository.findUploadedIdsByProcessingStatusIn(
+                EnumSet.of(Resume.ProcessingStatus.STORED, Resume.ProcessingStatus.PARSED));
+        if (!unfinished.isEmpty()) {
+            log.info("Resuming processing of {} resumes", unfinished.size());
+            unfinished.forEach(this::submit);
+        }
+    }
+
+    /**
+     * Queues the resume for processing from its current stage.
+     */
+    public void submit(Long resumeId) {
+        submit(resumeId, 1);
+    }
+
+    /**
+     * Like {@link #submit(Long)}, but the returned future completes once the
+     * resume reaches QUESTIONS_READY or FAILED, across retries.
+     */
+    public CompletableFuture<Resume.ProcessingStatus> submitTracked(Long resumeId) {
+        CompletableFuture<Resume.ProcessingStatus> done = tracked.computeIfAbsent(resumeId, id -> new CompletableFuture<>());
+        submit(resumeId);
+        return done;
+    }
+
+    private void submit(Long resumeId, int attempt) {
+        try {
+            workerPool.execute(() -> process(resumeId, attempt));
+        } catch (RejectedExecutionException e) {
+            if (workerPool.isShutdown()) {
+                return;
+            }
+            // queue is full; try again later rather than dropping the job
+            log.warn("Resume pipeline queue is full, delaying resume {}", resumeId);
+            retryTimer.schedule(() -> submit(resumeId, attempt), initialBackoff.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void process(Long resumeId, int attempt) {
+        Resume resume = resumeRepository.findWithContentById(resumeId).orElse(null);
+        if (resume == null) {
+            complete(resumeId, Resume.ProcessingStatus.FAILED);
+            return;
+        }
+
+        try {
+            runStages(resume, attempt);
+        } finally {
+            Resume.ProcessingStatus status = resume.getProcessingStatus();
+            if (status == Resume.ProcessingStatus.QUESTIONS_READY || status == Resume.ProcessingStatus.FAILED) {
+                complete(resumeId, status);
+            }
+        }
+    }
+
+    private void complete(Long resumeId, Resume.ProcessingStatus status) {
+        CompletableFuture<Resume.ProcessingStatus> done = tracked.remove(resumeId);
+        if (done != null) {
+            done.complete(status);
+        }
+    }
+
+    private void runStages(Resume resume, int attempt) {
+        if (resume.getProcessingStatus() == Resume.ProcessingStatus.PARSED && resume.getParsedContent() == null) {
+            // parsed before the content moved to resume_contents; parse again
+            resume.setProcessingStatus(Resume.ProcessingStatus.STORED);
+        }
+        try {
+            if ("per-category".equalsIgnoreCase(questionMode)
+                    && (resume.getProcessingStatus() == Resume.ProcessingStatus.STORED
+                    || resume.getProcessingStatus() == Resume.ProcessingStatus.PARSED)) {
+                runStage("pipelined", () -> parseAndGenerateByCategory(resume));
+                return;
+            }
+            if (resume.getProcessingStatus() == Resume.ProcessingStatus.STORED) {
+                runStage("parse", () -> parse(resume));
+                // the next stage gets its own attempts
+                attempt = 1;
+            }
+            if (resume.getProcessingStatus() == Resume.ProcessingStatus.PARSED) {
+                runStage("questions", () -> generateQuestions(resume));
+            }
+        } catch (UncheckedIOException e) {
+            // the stored file cannot be read; retrying will not help
+            markFailed(resume, "Could not read stored resume: " + e.getCause().getMessage());
+        } catch (RuntimeException e) {
+            retryOrFail(resume, attempt, e);
+        }
+    }
+
+    private void parse(Resume resume) {
+        String resumeContent = readResumeText(resume);
+        String parsedContent = resumeParseCache.get(resumeContent).orElseGet(() -> {
+            String parsed = aiService.parseResume(resumeContent);
+            resumeParseCache.put(resumeContent, parsed);
+            return parsed;
+        });
+        resume.setParsedContent(parsedContent);
+        updateStatus(resume, Resume.ProcessingStatus.PARSED, null);
+    }
+
+    private void generateQuestions(Resume resume) {
+        // a previous attempt may have saved the questions but not the status
+        if (questionRepository.countByResumeId(resume.getId()) == 0) {
+            List<Question> questions = aiService.generateQuestions(resume);
+            if (questions.isEmpty()) {
+                throw new IllegalStateException("No questions could be parsed from the AI response");
+            }
+            for (Question question : questions) {
+                question.setResume(resume);
+            }
+            questionRepository.saveAll(questions);
+        }
+        updateStatus(resume, Resume.ProcessingStatus.QUESTIONS_READY, null);
+    }
+
+    /**
+     * Overlaps parsing with question generation. The parse is streamed and each
+     * {@link QuestionCategory} gets its own smaller prompt as soon as the sections it
+     * needs have been written; its questions are saved the moment it completes, so
+     * an interview can start on the first category while the others are still
+     * running. A retry only regenerates the categories that have no questions yet.
+     */
+    private void parseAndGenerateByCategory(Resume resume) {
+        CategoryLauncher launcher = new CategoryLauncher(resume);
+        try {
+            if (resume.getProcessingStatus() == Resume.ProcessingStatus.STORED) {
+                String resumeContent = readResumeText(resume);
+                String parsedContent = resumeParseCache.get(resumeContent).orElse(null);
+                if (parsedContent == null) {
+                    JsonSectionScanner scanner = new JsonSectionScanner(launcher::sectionParsed);
+                    parsedContent = aiService.streamParseResume(resumeContent, scanner::feed).join();
+                    resumeParseCache.put(resumeContent, parsedContent);
+                }
+                resume.setParsedContent(parsedContent);
+                updateStatus(resume, Resume.ProcessingStatus.PARSED, null);
+            }
+            launcher.parseComplete(resume.getParsedContent());
+            launcher.awaitAll();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        } finally {
+            // let categories already running settle before a retry counts what is missing
+            launcher.awaitQuietly();
+        }
+        updateStatus(resume, Resume.ProcessingStatus.QUESTIONS_READY, null);
+    }
+
+    /**
+     * Tracks which parsed sections are available and starts each pending category
+     * once all of its required sections are present. Sections arrive on the AI
+     * worker that streams the parse.
+     */
+    private class CategoryLauncher {
+
+        private final Resume resume;
+
+        private final Map<String, JsonNode> sections = new HashMap<>();
+
+        private final Map<QuestionCategory, CompletableFuture<Void>> started = new EnumMap<>(QuestionCategory.class);
+
+        private final Set<QuestionCategory> pending = EnumSet.noneOf(QuestionCategory.class);
+
+        CategoryLauncher(Resume resume) {
+            this.resume = resume;
+            for (QuestionCategory category : QuestionCategory.values()) {
+                // a previous attempt may already have saved this category
+                if (questionRepository.countByResumeIdAndQuestionType(resume.getId(), category.name()) == 0) {
+                    pending.add(category);
+                }
+            }
+        }
+
+        synchronized void sectionParsed(String name, String rawJson) {
+            try {
+                sections.put(name, objectMapper.readTree(rawJson));
+            } catch (IOException e) {
+                log.debug("Ignoring unparseable resume section {}: {}", name, e.getMessage());
+                return;
+            }
+            for (QuestionCategory category : pending) {
+                if (!started.containsKey(category) && sections.keySet().containsAll(category.getRequiredSections())) {
+                    start(category);
+                }
+            }
+        }
+
+        /**
+         * Starts whatever the stream did not, using the complete parse.
+         */
+        synchronized void parseComplete(String parsedContent) {
+            try {
+                JsonNode root = objectMapper.readTree(JsonText.stripCodeFences(parsedContent));
+                root.fields().forEachRemaining(field -> sections.putIfAbsent(field.getKey(), field.getValue()));
+            } catch (IOException e) {
+                log.warn("Resume {} parsed content is not valid JSON: {}", resume.getId(), e.getMessage());
+            }
+            for (QuestionCategory category : pending) {
+                if (!started.containsKey(category)) {
+                    start(category);
+                }
+            }
+        }
+
+        private void start(QuestionCategory category) {
+            ObjectNode input = objectMapper.createObjectNode();
+            for (String section : category.getRequiredSections()) {
+                input.set(section, sections.get(section));
+            }
+            for (String section : category.getOptionalSections()) {
+                if (sections.containsKey(section)) {
+                    input.set(section, sections.get(section));
+                }
+            }
+
+            log.debug("Resume {}: generating {} questions", resume.getId(), category);
+            started.put(category, aiService.generateCategoryQuestionsAsync(resume, category, input.toString())
+                    .thenAccept(questions -> {
+                        if (questions.isEmpty()) {
+                            throw new IllegalStateException("No " + category + " questions could be parsed from the AI response");
+                        }
+                        for (Question question : questions) {
+                            question.setResume(resume);
+                        }
+                        questionRepository.saveAll(questions);
+                    }));
+        }
+
+        void awaitAll() {
+            CompletableFuture<?>[] futures;
+            synchronized (this) {
+                futures = started.values().toArray(CompletableFuture[]::new);
+            }
+            CompletableFuture.allOf(futures).join();
+        }
+
+        void awaitQuietly() {
+            try {
+                awaitAll();
+            } catch (CompletionException e) {
+                // reported by the caller
+            }
+        }
+    }
+
+    private void retryOrFail(Resume resume, int attempt, RuntimeException e) {
+        if (attempt >= maxAttempts) {
+            log.error("Resume {} failed at {} after {} attempts: {}",
+                    resume.getId(), resume.getProcessingStatus(), attempt, e.toString());
+            markFailed(resume, e.getMessage());
+            return;
+        }
+
+        long backoff = initialBackoff.toMillis() << (attempt - 1);
+        log.warn("Resume {} stage after {} failed (attempt {}/{}), retrying in {} ms: {}",
+                resume.getId(), resume.getProcessingStatus(), attempt, maxAttempts, backoff, e.toString());
+        retryTimer.schedule(() -> submit(resume.getId(), attempt + 1), backoff, TimeUnit.MILLISECONDS);
+    }
+
+    private void markFailed(Resume resume, String error) {
+        String message = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        updateStatus(resume, Resume.ProcessingStatus.FAILED, message);
+    }
+
+    private void updateStatus(Resume resume, Resume.ProcessingStatus status, String error) {
+        resume.setProcessingStatus(status);
+        resume.setProcessingError(error);
+        resume.setStatusUpdatedAt(LocalDateTime.now());
+        Resume saved = resumeRepository.save(resume);
+        // keep the generated content id and the new version so later saves of
+        // this detached copy update the same rows
+        resume.setContent(saved.getContent());
+        resume.setVersion(saved.getVersion());
+    }
+
+    private void runStage(String stage, Runnable work) {
+        Timer.builder("interviewiq.resume.pipeline.stage")
+                .description("Duration of a resume pipeline stage")
+                .tag("stage", stage)
+                .register(meterRegistry)
+                .record(work);
+    }
+
+    private String readResumeText(Resume resume) {
+        try {
+            ResumeTextExtractor.ExtractedText extracted = resumeTextExtractor.extract(Paths.get(resume.getFilePath()));
+            if (extracted.text().isBlank()) {
+                throw new IOException("no text found (scanned or image-only documents are not supported)");
+            }
+            if (extracted.truncated()) {
+                log.info("Resume {} text truncated to {} chars", resume.getId(), extracted.text().length());
+            }
+            return extracted.text();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
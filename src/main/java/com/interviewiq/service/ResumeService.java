@@ -1,22 +1,23 @@
 package com.interviewiq.service;
 
+import com.interviewiq.dto.ResumeDetailDto;
+import com.interviewiq.dto.ResumeImportStatusDto;
 import com.interviewiq.dto.ResumeResponseDto;
+import com.interviewiq.dto.ResumeStatusDto;
 import com.interviewiq.dto.ResumeUploadResponse;
-import com.interviewiq.entity.Question;
 import com.interviewiq.entity.Resume;
 import com.interviewiq.entity.User;
 import com.interviewiq.repository.ResumeRepository;
 import com.interviewiq.repository.QuestionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.InputStream;
 import java.util.List;
-import java.util.UUID;
 
 @Service
 public class ResumeService {
@@ -28,58 +29,59 @@ public class ResumeService {
     private QuestionRepository questionRepository;
 
     @Autowired
-    private AiService aiService;
+    private ResumeProcessingPipeline resumeProcessingPipeline;
 
-    private static final String UPLOAD_DIR = "uploads/resumes/";
+    @Autowired
+    private ResumeStorage resumeStorage;
+
+    @Autowired
+    private ResumeImportService resumeImportService;
+
+    @Value("${interviewiq.storage.max-file-size:10MB}")
+    private DataSize maxFileSize;
 
+    /**
+     * Stores the file and queues parsing and question generation in the
+     * background; poll {@link #getResumeStatus(Long)} for progress.
+     */
     public ResumeUploadResponse uploadResume(MultipartFile file, Long userId) {
-        try {
-            // Create upload directory if it doesn't exist
-            Path uploadPath = Paths.get(UPLOAD_DIR);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
+        if (file.getSize() > maxFileSize.toBytes()) {
+            return new ResumeUploadResponse(
+                null,
+                file.getOriginalFilename(),
+                "Failed to upload resume: file exceeds the " + maxFileSize.toMegabytes() + "MB limit",
+                false
+            );
+        }
 
-            // Generate unique filename
+        try {
+            // Stream the file to content-addressed storage, reusing an identical stored file
             String originalFilename = file.getOriginalFilename();
-            String fileExtension = originalFilename.substring(originalFilename.lastIndexOf("."));
-            String uniqueFilename = UUID.randomUUID().toString() + fileExtension;
-            Path filePath = uploadPath.resolve(uniqueFilename);
-
-            // Save file
-            Files.copy(file.getInputStream(), filePath);
+            ResumeStorage.StoredFile stored;
+            try (InputStream content = file.getInputStream()) {
+                stored = resumeStorage.store(content, originalFilename);
+            }
 
             // Create Resume entity
             User user = new User();
             user.setId(userId);
             Resume resume = new Resume(
                 originalFilename,
-                filePath.toString(),
-                file.getSize(),
+                stored.path().toString(),
+                stored.size(),
                 file.getContentType(),
                 user
             );
+            resume.setContentHash(stored.sha256());
 
-            // Save resume
+            // Save resume, then parse it and generate questions in the background
             Resume savedResume = resumeRepository.save(resume);
-
-            // Parse resume content using AI
-            String resumeContent = extractTextFromFile(file);
-            String parsedContent = aiService.parseResume(resumeContent);
-            savedResume.setParsedContent(parsedContent);
-            savedResume = resumeRepository.save(savedResume);
-
-            // Generate questions
-            List<Question> questions = aiService.generateQuestions(savedResume);
-            for (Question question : questions) {
-                question.setResume(savedResume);
-            }
-            questionRepository.saveAll(questions);
+            resumeProcessingPipeline.submit(savedResume.getId());
 
             return new ResumeUploadResponse(
                 savedResume.getId(),
                 originalFilename,
-                "Resume uploaded and processed successfully",
+                "Resume uploaded, analysis and question generation in progress",
                 true
             );
 
@@ -93,21 +95,64 @@ public class ResumeService {
         }
     }
 
+    /**
+     * Imports a zip archive of resumes; see {@link ResumeImportService}.
+     */
+    public ResumeImportStatusDto importResumeArchive(MultipartFile archive, Long userId) {
+        return resumeImportService.importArchive(archive, userId);
+    }
+
+    public ResumeImportStatusDto importResumeFiles(List<MultipartFile> files, Long userId) {
+        return resumeImportService.importFiles(files, userId);
+    }
+
+    public ResumeImportStatusDto getImportStatus(Long batchId) {
+        return resumeImportService.getImportStatus(batchId);
+    }
+
     public List<ResumeResponseDto> getUserResumes(Long userId) {
         List<ResumeResponseDto> resumes=resumeRepository.findAllResumeIdsByUserId(userId);
         System.out.println(resumes);
         return resumes;
     }
 
-    public Resume getResumeById(Long id) {
-        return resumeRepository.findById(id)
+    public ResumeStatusDto getResumeStatus(Long id) {
+        ResumeStatusDto status = resumeRepository.findStatusById(id)
+                .orElseThrow(() -> new RuntimeException("Resume not found with id: " + id));
+        status.setQuestionCount(questionRepository.countByResumeId(id));
+        return status;
+    }
+
+    /**
+     * Strong ETag for the resume and its status, read without building either
+     * response. Questions are saved without touching the resume row, so their
+     * count is part of the tag.
+     */
+    public String getResumeETag(Long id) {
+        Long version = resumeRepository.findVersionById(id)
+                .orElseThrow(() -> new RuntimeException("Resume not found with id: " + id));
+        return "\"resume-" + id + "-" + version + "-" + questionRepository.countByResumeId(id) + "\"";
+    }
+
+    public ResumeDetailDto getResumeById(Long id) {
+        // parsedContent is part of the response, so fetch it in the same query
+        Resume resume = resumeRepository.findWithContentById(id)
                 .orElseThrow(() -> new RuntimeException("Resume not found with id: " + id));
+        return convertToDto(resume);
     }
 
-    private String extractTextFromFile(MultipartFile file) throws IOException {
-        // This is a simplified implementation
-        // In a real application, you would use libraries like Apache Tika
-        // to extract text from various file formats (PDF, DOC, DOCX, etc.)
-        return new String(file.getBytes());
+    private ResumeDetailDto convertToDto(Resume resume) {
+        ResumeDetailDto dto = new ResumeDetailDto();
+        dto.setId(resume.getId());
+        dto.setFileName(resume.getFileName());
+        dto.setFileSize(resume.getFileSize());
+        dto.setContentType(resume.getContentType());
+        dto.setUploadedAt(resume.getUploadedAt());
+        dto.setProcessingStatus(resume.getProcessingStatus());
+        dto.setProcessingError(resume.getProcessingError());
+        dto.setStatusUpdatedAt(resume.getStatusUpdatedAt());
+        dto.setParsedContent(resume.getParsedContent());
+        dto.setUserId(resume.getUser().getId());
+        return dto;
     }
 }
@@ -0,0 +1,124 @@
+package com.interviewiq.service;
+
+import com.interviewiq.util.HashUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Content-addressed store for uploaded resume files. Uploads are streamed to a
+ * temporary file once while their SHA-256 is computed, then moved to
+ * {root}/{hash[0:2]}/{hash[2:4]}/{hash}{ext}. A file whose content is already
+ * stored is discarded and the existing blob is reused, so identical uploads take
+ * disk space once. Heap use per upload is a fixed transfer buffer regardless of
+ * file size.
+ */
+@Slf4j
+@Service
+public class ResumeStorage {
+
+    private static final long TRANSFER_CHUNK = 1 << 20;
+
+    private final Path root;
+
+    private final Path tempDir;
+
+    private final Counter deduplicated;
+
+    public ResumeStorage(MeterRegistry meterRegistry,
+                         @Value("${interviewiq.storage.resume-dir:uploads/resumes}") String resumeDir) {
+        this.root = Paths.get(resumeDir);
+        // on the same file system as the blobs, so the final move is a rename
+        this.tempDir = root.resolve("tmp");
+        this.deduplicated = Counter.builder("interviewiq.resume.storage.deduplicated")
+                .description("Uploads whose content was already stored")
+                .register(meterRegistry);
+    }
+
+    public record StoredFile(Path path, String sha256, long size, boolean deduplicated) {}
+
+    public StoredFile store(InputStream content, String originalFilename) throws IOException {
+        Files.createDirectories(tempDir);
+        Path temp = tempDir.resolve(UUID.randomUUID() + ".part");
+
+        try {
+            MessageDigest digest = HashUtils.newSha256();
+            long size = 0;
+            try (DigestInputStream in = new DigestInputStream(content, digest);
+                 ReadableByteChannel source = Channels.newChannel(in);
+                 FileChannel target = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                long transferred;
+                while ((transferred = target.transferFrom(source, size, TRANSFER_CHUNK)) > 0) {
+                    size += transferred;
+                }
+            }
+
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            Path blob = blobPath(sha256, extensionOf(originalFilename));
+            if (Files.exists(blob)) {
+                deduplicated.increment();
+                log.debug("Upload {} matches stored blob {}", originalFilename, blob);
+                return new StoredFile(blob, sha256, size, true);
+            }
+
+            Files.createDirectories(blob.getParent());
+            try {
+                move(temp, blob);
+            } catch (FileAlreadyExistsException e) {
+                // an identical upload finished first
+                deduplicated.increment();
+                return new StoredFile(blob, sha256, size, true);
+            }
+            return new StoredFile(blob, sha256, size, false);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void move(Path source, Path target) throws IOException {
+        try {
+            // may replace a blob stored concurrently; the content is identical either way
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target);
+        }
+    }
+
+    private Path blobPath(String sha256, String extension) {
+        return root.resolve(sha256.substring(0, 2))
+                .resolve(sha256.substring(2, 4))
+                .resolve(sha256 + extension);
+    }
+
+    private static String extensionOf(String filename) {
+        if (filename == null) {
+            return "";
+        }
+        int dot = filename.lastIndexOf('.');
+        if (dot < 0 || dot < filename.length() - 10) {
+            return "";
+        }
+        String extension = filename.substring(dot).toLowerCase(Locale.ROOT);
+        return extension.matches("\\.[a-z0-9]+") ? extension : "";
+    }
+}
@@ -0,0 +1,364 @@
+package com.interviewiq.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.openxml4j.opc.PackageRelationshipCollection;
+import org.apache.poi.openxml4j.opc.PackageRelationshipTypes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Extracts plain text from stored resumes (PDF, DOCX or text) for the parse
+ * prompt. PDFs are read through a temp-file stream cache, so the document is not
+ * held on the heap; large ones are split into page ranges that are extracted in
+ * parallel on a bounded pool. DOCX markup is streamed rather than loaded. Output
+ * is capped at maxChars and whitespace is normalised. Extraction time and text
+ * size are recorded per format.
+ */
+@Slf4j
+@Service
+public class ResumeTextExtractor {
+
+    public enum Format {
+        PDF, DOCX, TEXT
+    }
+
+    public record ExtractedText(String text, Format format, int pages, boolean truncated) {}
+
+    private static final XMLInputFactory XML_INPUT = XMLInputFactory.newFactory();
+
+    static {
+        XML_INPUT.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XML_INPUT.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    @Value("${interviewiq.resume.extraction.max-chars:50000}")
+    private int maxChars;
+
+    @Value("${interviewiq.resume.extraction.pages-per-task:4}")
+    private int pagesPerTask;
+
+    private final ThreadPoolExecutor extractionPool;
+
+    private final MeterRegistry meterRegistry;
+
+    public ResumeTextExtractor(MeterRegistry meterRegistry,
+                               @Value("${interviewiq.resume.extraction.threads:4}") int threads) {
+        this.meterRegistry = meterRegistry;
+        AtomicInteger threadCount = new AtomicInteger();
+        // a full queue runs ranges on the calling pipeline worker instead of queuing more
+        this.extractionPool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 4), r -> {
+                    Thread thread = new Thread(r, "resume-extract-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        extractionPool.shutdownNow();
+    }
+
+    public ExtractedText extract(Path file) throws IOException {
+        Format format = detectFormat(file);
+        long start = System.nanoTime();
+
+        ExtractedText extracted = switch (format) {
+            case PDF -> extractPdf(file);
+            case DOCX -> extractDocx(file);
+            case TEXT -> extractPlainText(file);
+        };
+
+        Timer.builder("interviewiq.resume.extraction.time")
+                .description("Time to extract text from an uploaded resume")
+                .tag("format", format.name())
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("interviewiq.resume.extraction.chars")
+                .description("Characters of text extracted from an uploaded resume")
+                .baseUnit("chars")
+                .tag("format", format.name())
+                .register(meterRegistry)
+                .record(extracted.text().length());
+        log.debug("Extracted {} chars from {} ({} {} pages{}) in {} ms", extracted.text().length(), file.getFileName(),
+                format, extracted.pages(), extracted.truncated() ? ", truncated" : "",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return extracted;
+    }
+
+    private ExtractedText extractPdf(Path file) throws IOException {
+        int pages;
+        try (PDDocument document = load(file)) {
+            pages = document.getNumberOfPages();
+            if (pages <= pagesPerTask) {
+                return finish(extractPages(document, 1, pages, maxChars), Format.PDF, pages);
+            }
+        }
+
+        // PDDocument is not thread-safe, so every range opens its own (cheap) view of the
+        // file. Ranges are submitted a pool's worth at a time and submission stops once
+        // maxChars is collected, so a huge PDF is not parsed past the cap.
+        int window = extractionPool.getMaximumPoolSize();
+        Deque<CompletableFuture<String>> inFlight = new ArrayDeque<>();
+        StringBuilder text = new StringBuilder();
+        int next = 1;
+        try {
+            while (text.length() < maxChars && (next <= pages || !inFlight.isEmpty())) {
+                while (next <= pages && inFlight.size() < window) {
+                    int from = next;
+                    int to = Math.min(pages, next + pagesPerTask - 1);
+                    int budget = maxChars - text.length();
+                    inFlight.add(CompletableFuture.supplyAsync(() -> {
+                        try (PDDocument document = load(file)) {
+                            return extractPages(document, from, to, budget);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }, extractionPool));
+                    next = to + 1;
+                }
+                text.append(inFlight.poll().join());
+            }
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof UncheckedIOException io ? io.getCause() : new IOException(e.getCause());
+        } finally {
+            inFlight.forEach(range -> range.cancel(false));
+        }
+        return finish(text, Format.PDF, pages);
+    }
+
+    private String extractPages(PDDocument document, int from, int to, int budget) throws IOException {
+        PDFTextStripper stripper = new PDFTextStripper();
+        stripper.setStartPage(from);
+        stripper.setEndPage(to);
+        BoundedWriter writer = new BoundedWriter(budget);
+        stripper.writeText(document, writer);
+        return writer.toString();
+    }
+
+    /**
+     * Streams the main document part with StAX instead of building POI's
+     * XWPFDocument, so memory is bounded by maxChars rather than by the size of
+     * the document. Paragraphs and table rows end in a newline, cells in a tab.
+     */
+    private ExtractedText extractDocx(Path file) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ);
+             InputStream in = mainDocumentPart(pkg).getInputStream()) {
+            StringBuilder text = new StringBuilder();
+            XMLStreamReader reader = XML_INPUT.createXMLStreamReader(in);
+            try {
+                boolean inText = false;
+                while (reader.hasNext() && text.length() < maxChars) {
+                    switch (reader.next()) {
+                        case XMLStreamConstants.START_ELEMENT -> {
+                            switch (reader.getLocalName()) {
+                                case "t" -> inText = true;
+                                case "tab" -> text.append('\t');
+                                case "br", "cr" -> text.append('\n');
+                                default -> { }
+                            }
+                        }
+                        case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> {
+                            if (inText) {
+                                text.append(reader.getText());
+                            }
+                        }
+                        case XMLStreamConstants.END_ELEMENT -> {
+                            switch (reader.getLocalName()) {
+                                case "t" -> inText = false;
+                                case "p", "tr" -> text.append('\n');
+                                case "tc" -> {
+                                    // a cell's last paragraph ends on the tab, keeping the row on one line
+                                    if (!text.isEmpty() && text.charAt(text.length() - 1) == '\n') {
+                                        text.setLength(text.length() - 1);
+                                    }
+                                    text.append('\t');
+                                }
+                                default -> { }
+                            }
+                        }
+                        default -> { }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+            return finish(text, Format.DOCX, 0);
+        } catch (InvalidFormatException | XMLStreamException e) {
+            throw new IOException("Not a valid DOCX file", e);
+        }
+    }
+
+    private static PackagePart mainDocumentPart(OPCPackage pkg) throws IOException {
+        PackageRelationshipCollection relationships = pkg.getRelationshipsByType(PackageRelationshipTypes.CORE_DOCUMENT);
+        if (relationships.isEmpty()) {
+            relationships = pkg.getRelationshipsByType(PackageRelationshipTypes.STRICT_CORE_DOCUMENT);
+        }
+        PackagePart part = relationships.isEmpty() ? null : pkg.getPart(relationships.getRelationship(0));
+        if (part == null) {
+            throw new IOException("Not a valid DOCX file: no main document part");
+        }
+        return part;
+    }
+
+    private ExtractedText extractPlainText(Path file) throws IOException {
+        StringBuilder text = new StringBuilder();
+        char[] buffer = new char[8192];
+        // malformed bytes are replaced rather than failing the upload
+        try (Reader reader = new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8)) {
+            int read;
+            while (text.length() <= maxChars && (read = reader.read(buffer)) != -1) {
+                text.append(buffer, 0, read);
+            }
+        }
+        return finish(text, Format.TEXT, 0);
+    }
+
+    private ExtractedText finish(CharSequence raw, Format format, int pages) {
+        String text = normalizeWhitespace(raw);
+        boolean truncated = text.length() > maxChars;
+        if (truncated) {
+            text = text.substring(0, maxChars);
+        }
+        return new ExtractedText(text, format, pages, truncated);
+    }
+
+    /**
+     * Single pass: drops control characters, turns any run of horizontal
+     * whitespace into one space, trims every line and keeps at most one blank line
+     * between paragraphs.
+     */
+    static String normalizeWhitespace(CharSequence raw) {
+        StringBuilder out = new StringBuilder(raw.length());
+        int newlines = 0;
+        boolean pendingSpace = false;
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c == '\r') {
+                if (i + 1 < raw.length() && raw.charAt(i + 1) == '\n') {
+                    continue;
+                }
+                c = '\n';
+            }
+            if (c == '\n' || c == '\f') {
+                pendingSpace = false;
+                if (out.length() > 0 && newlines < 2) {
+                    out.append('\n');
+                }
+                newlines++;
+            } else if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                pendingSpace = out.length() > 0 && newlines == 0;
+            } else if (!Character.isISOControl(c)) {
+                if (pendingSpace) {
+                    out.append(' ');
+                }
+                out.append(c);
+                pendingSpace = false;
+                newlines = 0;
+            }
+        }
+        while (out.length() > 0 && out.charAt(out.length() - 1) == '\n') {
+            out.setLength(out.length() - 1);
+        }
+        return out.toString();
+    }
+
+    private Format detectFormat(Path file) throws IOException {
+        byte[] header = new byte[8];
+        int read;
+        try (InputStream in = Files.newInputStream(file)) {
+            read = in.readNBytes(header, 0, header.length);
+        }
+        if (read >= 4 && header[0] == '%' && header[1] == 'P' && header[2] == 'D' && header[3] == 'F') {
+            return Format.PDF;
+        }
+        if (read >= 4 && header[0] == 'P' && header[1] == 'K' && header[2] == 3 && header[3] == 4) {
+            return Format.DOCX;
+        }
+        if (read >= 4 && (header[0] & 0xFF) == 0xD0 && (header[1] & 0xFF) == 0xCF
+                && (header[2] & 0xFF) == 0x11 && (header[3] & 0xFF) == 0xE0) {
+            throw new IOException("Legacy .doc files are not supported, please upload a PDF or DOCX");
+        }
+        return Format.TEXT;
+    }
+
+    private static PDDocument load(Path file) throws IOException {
+        return Loader.loadPDF(file.toFile(), IOUtils.createTempFileOnlyStreamCache());
+    }
+
+    /**
+     * Keeps the first limit characters and discards the rest, so a huge page range
+     * cannot grow the buffer without bound.
+     */
+    private static final class BoundedWriter extends Writer {
+        private final StringBuilder buffer = new StringBuilder();
+        private final int limit;
+
+        BoundedWriter(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            int room = limit - buffer.length();
+            if (room > 0) {
+                buffer.append(chars, offset, Math.min(room, length));
+            }
+        }
+
+        @Override
+        public void write(String text, int offset, int length) {
+            int room = limit - buffer.length();
+            if (room > 0) {
+                buffer.append(text, offset, offset + Math.min(room, length));
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+    }
+}
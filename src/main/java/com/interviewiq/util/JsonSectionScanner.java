@@ -0,0 +1,117 @@
+package com.interviewiq.util;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Scans a JSON object as it streams in and reports each top-level field as soon
+ * as its value is complete, e.g. "technical_skills" while the model is still
+ * writing "work_experience". Anything before the opening brace (such as a
+ * ```json fence) is skipped. Not thread-safe; feed chunks in arrival order.
+ */
+public final class JsonSectionScanner {
+
+    private final BiConsumer<String, String> onSection;
+
+    private final StringBuilder buffer = new StringBuilder();
+
+    private int position;
+
+    private int depth;
+
+    private boolean started;
+
+    private boolean finished;
+
+    private boolean inString;
+
+    private boolean escaped;
+
+    private int keyStart = -1;
+
+    private int keyEnd = -1;
+
+    private String currentKey;
+
+    private int valueStart;
+
+    /**
+     * @param onSection receives the field name and the raw JSON text of its value
+     */
+    public JsonSectionScanner(BiConsumer<String, String> onSection) {
+        this.onSection = onSection;
+    }
+
+    public void feed(CharSequence chunk) {
+        if (finished) {
+            return;
+        }
+        buffer.append(chunk);
+        for (; position < buffer.length() && !finished; position++) {
+            scan(buffer.charAt(position));
+        }
+    }
+
+    private void scan(char c) {
+        if (!started) {
+            if (c == '{') {
+                started = true;
+                depth = 1;
+            }
+            return;
+        }
+
+        if (inString) {
+            if (escaped) {
+                escaped = false;
+            } else if (c == '\\') {
+                escaped = true;
+            } else if (c == '"') {
+                inString = false;
+                if (depth == 1 && currentKey == null) {
+                    keyEnd = position;
+                }
+            }
+            return;
+        }
+
+        switch (c) {
+            case '"' -> {
+                inString = true;
+                if (depth == 1 && currentKey == null) {
+                    keyStart = position + 1;
+                }
+            }
+            case ':' -> {
+                if (depth == 1 && currentKey == null && keyEnd > keyStart) {
+                    currentKey = buffer.substring(keyStart, keyEnd);
+                    valueStart = position + 1;
+                }
+            }
+            case '{', '[' -> depth++;
+            case '}', ']' -> {
+                depth--;
+                if (depth == 0) {
+                    emit();
+                    finished = true;
+                }
+            }
+            case ',' -> {
+                if (depth == 1) {
+                    emit();
+                }
+            }
+            default -> {
+                // literals and whitespace
+            }
+        }
+    }
+
+    private void emit() {
+        if (currentKey != null) {
+            onSection.accept(currentKey, buffer.substring(valueStart, position).trim());
+        }
+        currentKey = null;
+        keyStart = -1;
+        keyEnd = -1;
+    }
+}
@@ -0,0 +1,48 @@
+package com.interviewiq.util;
+
+public final class JsonText {
+
+    private static final String FENCE = "```";
+
+    private JsonText() {}
+
+    /**
+     * Returns the payload of a model response with any markdown code fence removed,
+     * e.g. "```json\n{...}\n```" or "```json {...}```" becomes "{...}". Text before
+     * the opening fence and after the closing fence is dropped. Scans the input once
+     * and allocates only the returned substring.
+     */
+    public static String stripCodeFences(String text) {
+        if (text == null) {
+            return null;
+        }
+
+        int start = 0;
+        int end = text.length();
+
+        int open = text.indexOf(FENCE);
+        if (open >= 0) {
+            // skip the fence and its optional info string ("json"); the payload may
+            // follow on the same line, as in "```json {...}```"
+            start = open + FENCE.length();
+            while (start < end && isInfoStringChar(text.charAt(start))) {
+                start++;
+            }
+
+            int close = text.lastIndexOf(FENCE);
+            end = close >= start ? close : end;
+        }
+
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        return text.substring(start, end);
+    }
+
+    private static boolean isInfoStringChar(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_' || c == '-';
+    }
+}
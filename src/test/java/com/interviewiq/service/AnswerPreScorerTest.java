@@ -0,0 +1,94 @@
+package com.interviewiq.service;
+
+import com.interviewiq.dto.FeedbackResponse;
+import com.interviewiq.entity.Question;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnswerPreScorerTest {
+
+    private AnswerPreScorer preScorer;
+
+    @BeforeEach
+    void setUp() {
+        preScorer = new AnswerPreScorer(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(preScorer, "enabled", true);
+        ReflectionTestUtils.setField(preScorer, "confidenceThreshold", 0.85);
+        ReflectionTestUtils.setField(preScorer, "minContentWords", 3);
+    }
+
+    @Test
+    void scoresEmptyAnswerLocally() {
+        assertLocal(question("Explain the Java memory model.", "Java"), "   ");
+    }
+
+    @Test
+    void scoresExactNonAnswerLocally() {
+        assertLocal(question("Explain the Java memory model.", "Java"), "I don't know.");
+        assertLocal(question("Explain the Java memory model.", "Java"), "Pass");
+    }
+
+    @Test
+    void scoresAnswerThatIsMostlyDontKnowLocally() {
+        assertLocal(question("How would you shard a MySQL table?", "MySQL"), "Honestly, I don't know");
+        assertLocal(question("How would you shard a MySQL table?", "MySQL"), "Sorry, no idea");
+    }
+
+    @Test
+    void sendsTerseAnswersContainingNonAnswerWordsToModel() {
+        assertSentToModel(question("How does Java pass arguments to methods?", "Java"), "Always pass by value");
+        assertSentToModel(question("What state does a REST endpoint keep between requests?", "REST"),
+                "None, it is stateless");
+        assertSentToModel(question("How do you free memory for unused objects?", "Memory management"),
+                "Nothing, the JVM handles it");
+    }
+
+    @Test
+    void sendsAnswerWithDontKnowPrefixAndRealContentToModel() {
+        assertSentToModel(question("Which data structure would you use for a scheduler?", "Data structures"),
+                "No idea about the exact API, but a priority queue keyed by deadline");
+    }
+
+    @Test
+    void sendsTwoWordAnswerToModel() {
+        assertSentToModel(question("Which algorithm finds an item in a sorted array quickly?", "Algorithms"),
+                "Binary search");
+    }
+
+    @Test
+    void scoresCopiedQuestionLocally() {
+        assertLocal(question("Describe the producer consumer pattern.", "Concurrency"),
+                "Describe the producer consumer pattern");
+    }
+
+    @Test
+    void sendsEverythingToModelWhenDisabled() {
+        ReflectionTestUtils.setField(preScorer, "enabled", false);
+        assertSentToModel(question("Explain the Java memory model.", "Java"), "");
+    }
+
+    private void assertLocal(Question question, String answer) {
+        Optional<FeedbackResponse> result = preScorer.preScore(question, answer);
+        assertTrue(result.isPresent(), () -> "expected a local score for: " + answer);
+        assertTrue(result.get().getScore() <= 2.0);
+    }
+
+    private void assertSentToModel(Question question, String answer) {
+        Optional<FeedbackResponse> result = preScorer.preScore(question, answer);
+        assertFalse(result.isPresent(), () -> "expected the model to score: " + answer
+                + " but got " + result.map(FeedbackResponse::getFeedback).orElse(""));
+    }
+
+    private static Question question(String text, String targetSkill) {
+        Question question = new Question(text, "TECHNICAL", "MEDIUM", null);
+        question.setTargetSkill(targetSkill);
+        return question;
+    }
+}